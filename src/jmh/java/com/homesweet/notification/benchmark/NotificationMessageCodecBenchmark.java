@@ -0,0 +1,84 @@
+package com.homesweet.notification.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.service.NotificationMessageCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 메시지 직렬화 비교 (발행기 인코딩, 게이트웨이 해석)
+ *
+ * - json: redisObjectTemplate과 같은 설정의 Jackson JSON
+ * - binary: NotificationMessageCodec
+ *
+ * 메시지당 바이트 수는 시작 시 한 번 출력합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=NotificationMessageCodecBenchmark
+ *
+ * @author dogyungkim
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationMessageCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private NotificationMessage message;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        message = new NotificationMessage(1_048_576L, PushNotificationDTO.builder()
+                .notificationId(987_654_321L)
+                .title("주문 완료")
+                .content("홍길동님, 주문하신 상품의 결제가 완료되었습니다.")
+                .redirectUrl("/orders/20251118")
+                .contextData(SerializedContextData.of(Map.of("userName", "홍길동", "orderId", 20251118L)))
+                .categoryType(NotificationCategoryType.ORDER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        json = objectMapper.writeValueAsBytes(message);
+        binary = NotificationMessageCodec.encode(message);
+        System.out.printf("%n메시지당 바이트 수: json=%d, binary=%d%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return NotificationMessageCodec.encode(message);
+    }
+
+    @Benchmark
+    public JsonNode decodeJson() throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return NotificationMessageCodec.decode(binary);
+    }
+}
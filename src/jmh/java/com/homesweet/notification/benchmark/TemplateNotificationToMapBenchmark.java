@@ -0,0 +1,80 @@
+package com.homesweet.notification.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.domain.notification.OrderNotification;
+import com.homesweet.notification.domain.notification.SettlementNotification;
+import com.homesweet.notification.domain.notification.TemplateNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TemplateNotification.toMap() 성능 비교
+ *
+ * - legacy: 호출마다 ObjectMapper 생성 후 convertValue (기존 default 메서드)
+ * - sharedMapper: ObjectMapper를 재사용하는 convertValue
+ * - codec: 클래스별로 캐싱된 TemplateNotificationCodec
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TemplateNotificationToMapBenchmark
+ *
+ * @author dogyungkim
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemplateNotificationToMapBenchmark {
+
+    private static final ObjectMapper SHARED_MAPPER = new ObjectMapper();
+
+    @Param({ "ORDER_COMPLETED", "SETTLEMENT_COMPLETED" })
+    private String type;
+
+    private TemplateNotification notification;
+
+    @Setup
+    public void setUp() {
+        notification = switch (type) {
+            case "ORDER_COMPLETED" -> OrderNotification.OrderCompleted.builder()
+                    .userName("홍길동")
+                    .orderId(20251118L)
+                    .build();
+            case "SETTLEMENT_COMPLETED" -> SettlementNotification.SettlementCompleted.builder()
+                    .userName("홍길동")
+                    .settlementId(1024L)
+                    .amount(1_250_000L)
+                    .settlementName("11월 정산")
+                    .build();
+            default -> throw new IllegalArgumentException("지원하지 않는 타입: " + type);
+        };
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> legacy() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> map = objectMapper.convertValue(notification, Map.class);
+        map.remove("eventType");
+        return map;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> sharedMapper() {
+        Map<String, Object> map = SHARED_MAPPER.convertValue(notification, Map.class);
+        map.remove("eventType");
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, Object> codec() {
+        return notification.toMap();
+    }
+}
@@ -0,0 +1,122 @@
+package com.homesweet.notification.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.entity.UserNotification;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
+import com.homesweet.notification.repository.impl.H2UserNotificationJdbcRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user_notification 일괄 INSERT 성능 비교 (H2 인메모리)
+ *
+ * - legacy: 배치마다 multi-row INSERT 문자열을 만들고 파라미터를 List&lt;Object&gt;에 담는 기존 방식
+ * - batchSetter: 단일 행 INSERT 문을 재사용하고 BatchPreparedStatementSetter로 직접 바인딩
+ *
+ * MySQL에서는 rewriteBatchedStatements 설정에 따라 결과가 달라지므로 운영 DB로도 측정이 필요합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UserNotificationBulkInsertBenchmark
+ *
+ * @author dogyungkim
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserNotificationBulkInsertBenchmark {
+
+    private static final String LEGACY_INSERT_SQL = "INSERT INTO user_notification (user_notification_id, user_id, notification_template_id, context_data, is_read, is_deleted, created_at) VALUES ";
+
+    @Param({ "250", "1000" })
+    private int recipients;
+
+    @Param({ "250" })
+    private int batchSize;
+
+    private JdbcTemplate jdbcTemplate;
+    private UserNotificationIdAllocator idAllocator;
+    private H2UserNotificationJdbcRepository repository;
+    private Map<String, Object> contextData;
+
+    private List<UserNotification> notifications;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_sequence ("
+                + "sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_notification ("
+                + "user_notification_id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + "notification_template_id BIGINT, context_data JSON NOT NULL, "
+                + "is_read BOOLEAN NOT NULL, is_deleted BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        idAllocator = new UserNotificationIdAllocator(dataSource, 10_000);
+        repository = new H2UserNotificationJdbcRepository(jdbcTemplate, objectMapper, idAllocator);
+        contextData = SerializedContextData.of(Map.of("title", "점검 안내", "content", "서비스 점검이 예정되어 있습니다."));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE user_notification");
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpNotifications() {
+        notifications = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            notifications.add(UserNotification.forRecipient((long) i + 1, null, contextData));
+        }
+    }
+
+    @Benchmark
+    public void legacy() {
+        long[] ids = idAllocator.allocate(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            notifications.get(i).setId(ids[i]);
+        }
+
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            List<UserNotification> batch = notifications.subList(from, Math.min(from + batchSize, notifications.size()));
+            StringBuilder sql = new StringBuilder(LEGACY_INSERT_SQL);
+            List<Object> params = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                UserNotification n = batch.get(i);
+                sql.append(String.format("(?, ?, ?, %s, ?, ?, ?)", "? FORMAT JSON"));
+                if (i < batch.size() - 1) {
+                    sql.append(", ");
+                }
+                params.add(n.getId());
+                params.add(n.getUserId());
+                params.add(null);
+                params.add(((SerializedContextData) n.getContextData()).json());
+                params.add(n.getIsRead());
+                params.add(n.getIsDeleted());
+                params.add(LocalDateTime.now());
+            }
+            jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+    }
+
+    @Benchmark
+    public void batchSetter() {
+        repository.saveAll(notifications, batchSize);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @AllArgsConstructor
@@ -58,6 +59,17 @@ public class User {
 	@Column(name = "birth_date")
 	private LocalDate birthDate;
 
+	/** 가입 시각 (가입 이전의 전체 발송 알림은 받지 않음) */
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	void prePersist() {
+		if (this.createdAt == null) {
+			this.createdAt = LocalDateTime.now();
+		}
+	}
+
 	/**
 	 * OAuth 사용자인지 확인합니다.
 	 * 이 서비스는 모든 사용자가 OAuth 사용자입니다.
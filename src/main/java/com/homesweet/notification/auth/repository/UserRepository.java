@@ -24,4 +24,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.grade WHERE u.id IN :userIds")
     List<User> findAllByIdIn(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 존재하는 사용자 ID만 조회 (엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findExistingIdsByIdIn(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 사용자 역할만 조회 (엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT u.role FROM User u WHERE u.id = :userId")
+    Optional<UserRole> findRoleById(@Param("userId") Long userId);
 }
@@ -33,4 +33,20 @@ public class UserService {
         return userRepository.findAllByIdIn(userIds);
     }
 
+    /**
+     * 주어진 ID 중 실제로 존재하는 사용자 ID만 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getExistingUserIds(List<Long> userIds) {
+        return userRepository.findExistingIdsByIdIn(userIds);
+    }
+
+    /**
+     * 전체 사용자 수
+     */
+    @Transactional(readOnly = true)
+    public long countUsers() {
+        return userRepository.count();
+    }
+
 }
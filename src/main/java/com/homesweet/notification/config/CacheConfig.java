@@ -4,10 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -20,7 +17,6 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
-import java.util.List;
 
 /**
  * Redis 캐싱 설정
@@ -61,12 +57,4 @@ public class CacheConfig {
                                 .cacheDefaults(config)
                                 .build();
         }
-
-        @Bean
-        public CacheManager localCacheManager() {
-                SimpleCacheManager cacheManager = new SimpleCacheManager();
-                cacheManager.setCaches(List.of(
-                                new ConcurrentMapCache("notificationTemplateCache")));
-                return cacheManager;
-        }
 }
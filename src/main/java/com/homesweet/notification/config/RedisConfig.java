@@ -2,14 +2,18 @@ package com.homesweet.notification.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import com.homesweet.notification.service.impl.NotificationTemplateInvalidationListener;
 
 /**
  * Redis 설정 파일
@@ -48,4 +52,19 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 알림 템플릿 무효화 채널 구독
+     */
+    @Bean
+    @Profile("!test")
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NotificationTemplateInvalidationListener templateInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(templateInvalidationListener,
+                new ChannelTopic(NotificationTemplateInvalidationListener.CHANNEL));
+        return container;
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.homesweet.notification.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정
+ * 
+ * 읽지 않은 알림 카운터 점검 등 백그라운드 주기 작업을 활성화합니다.
+ * 
+ * @author dogyungkim
+ */
+@Configuration
+@EnableScheduling
+@Profile("!test")
+public class SchedulingConfig {
+}
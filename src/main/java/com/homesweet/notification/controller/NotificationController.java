@@ -5,6 +5,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,11 +15,16 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.homesweet.notification.auth.entity.OAuth2UserPrincipal;
+import com.homesweet.notification.domain.NotificationCategoryType;
 import com.homesweet.notification.domain.event.TemplateNotificationEvent;
 import com.homesweet.notification.domain.notification.OrderNotification;
+import com.homesweet.notification.dto.NotificationChangesDTO;
+import com.homesweet.notification.dto.NotificationPageDTO;
 import com.homesweet.notification.dto.PushNotificationDTO;
 import com.homesweet.notification.service.impl.NotificationAPIService;
 import com.homesweet.notification.service.impl.NotificationProcessor;
@@ -65,13 +71,65 @@ public class NotificationController {
 
     /**
      * 사용자의 알림 목록 조회 (최대 20개)
+     * 
+     * 응답에 알림함 버전을 ETag로 포함하며, If-None-Match가 현재 버전과 같으면 조회 없이 304를 반환합니다.
      */
     @GetMapping
     public ResponseEntity<List<PushNotificationDTO>> getNotifications(
-            @AuthenticationPrincipal OAuth2UserPrincipal principal) {
+            @AuthenticationPrincipal OAuth2UserPrincipal principal,
+            WebRequest request) {
+        // 버전을 먼저 확인하므로 조회 중에 바뀐 내용은 다음 요청에서 다시 받음
+        String etag = notificationAPIService.getInboxETag(principal.getUserId());
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         log.info("알림 목록 조회: userId={}", principal.getUserId());
         List<PushNotificationDTO> notifications = notificationAPIService.getAllNotifications(principal.getUserId());
-        return ResponseEntity.ok(notifications);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(notifications);
+    }
+
+    /**
+     * 사용자의 알림 페이지 조회 (커서 기반)
+     * 
+     * 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다.
+     * 예시: GET /api/v1/notifications?size=20&category=ORDER&cursor=...
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<NotificationPageDTO> getNotificationPage(
+            @AuthenticationPrincipal OAuth2UserPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) NotificationCategoryType category) {
+        return ResponseEntity.ok(notificationAPIService.getPage(principal.getUserId(), cursor, size, category));
+    }
+
+    /**
+     * 재연결 시 놓친 알림 변경 조회
+     * 
+     * since(마지막으로 받은 알림 ID) 이후에 생성된 알림과 version 이후의 읽음/삭제 상태 변경을 반환합니다.
+     * 예시: GET /api/v1/notifications/changes?since=1234&version=...&size=50
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<NotificationChangesDTO> getChanges(
+            @AuthenticationPrincipal OAuth2UserPrincipal principal,
+            @RequestParam Long since,
+            @RequestParam(required = false) String version,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(notificationAPIService.getChanges(principal.getUserId(), since, version, size));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (뱃지 표시용)
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Long> getUnreadCount(
+            @AuthenticationPrincipal OAuth2UserPrincipal principal) {
+        return ResponseEntity.ok(notificationAPIService.getUnreadCount(principal.getUserId()));
     }
 
     /**
@@ -90,6 +148,17 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 모든 알림 읽음 처리
+     */
+    @PatchMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(
+            @AuthenticationPrincipal OAuth2UserPrincipal principal) {
+        log.info("모든 알림 읽음 처리: userId={}", principal.getUserId());
+        notificationAPIService.markAllAsRead(principal.getUserId());
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 알림 삭제 처리 (단일 및 여러 개 모두 처리)
      * 
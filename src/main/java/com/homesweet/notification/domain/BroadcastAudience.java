@@ -0,0 +1,42 @@
+package com.homesweet.notification.domain;
+
+import com.homesweet.notification.auth.entity.UserRole;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 발송 알림 대상
+ *
+ * 수신자 목록 대신 대상 조건만 저장하고, 조회 시 사용자의 역할로 수신 여부를 판단합니다.
+ *
+ * @author dogyungkim
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BroadcastAudience {
+    ALL("전체 사용자", null),
+    USER("일반 사용자", UserRole.USER),
+    SELLER("판매자", UserRole.SELLER);
+
+    private final String description;
+    private final UserRole role;
+
+    /**
+     * 해당 역할의 사용자가 받는 대상 목록
+     *
+     * @param role 사용자 역할 (알 수 없으면 null)
+     */
+    public static List<BroadcastAudience> audiencesFor(UserRole role) {
+        List<BroadcastAudience> audiences = new ArrayList<>(2);
+        for (BroadcastAudience audience : values()) {
+            if (audience.role == null || audience.role == role) {
+                audiences.add(audience);
+            }
+        }
+        return audiences;
+    }
+}
@@ -0,0 +1,61 @@
+package com.homesweet.notification.domain;
+
+import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.exception.NotificationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림함 페이지 커서
+ *
+ * 마지막으로 받은 알림의 (생성 시각, 알림 ID)이며, 다음 페이지는 이보다 작은 알림부터 조회합니다.
+ * 생성 시각이 같은 알림은 ID로 순서를 정하므로 페이지 사이에 알림이 빠지거나 중복되지 않습니다.
+ * 클라이언트에는 URL-safe Base64 문자열로 전달합니다.
+ *
+ * @author dogyungkim
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /** 첫 페이지 조회용 커서 (모든 알림보다 큼) */
+    public static final NotificationCursor FIRST = new NotificationCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public NotificationCursor {
+        if (createdAt == null || id == null) {
+            throw new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+     * @throws NotificationException 형식이 올바르지 않은 경우
+     */
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+            }
+            return new NotificationCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
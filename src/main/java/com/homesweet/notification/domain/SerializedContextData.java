@@ -0,0 +1,101 @@
+package com.homesweet.notification.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번만 직렬화되는 알림 컨텍스트 데이터
+ *
+ * 다수 사용자 알림은 모든 수신자가 같은 contextData를 공유하므로,
+ * 이벤트당 한 번 JSON으로 직렬화해 두고 JDBC 저장 파라미터와 Redis 메시지에 그대로 재사용합니다.
+ * Jackson으로 직렬화될 때는 보관된 JSON을 raw value로 출력합니다.
+ *
+ * 생성 이후에는 변경할 수 없습니다.
+ *
+ * @author dogyungkim
+ */
+@JsonSerialize(using = SerializedContextData.RawJsonSerializer.class)
+public final class SerializedContextData extends AbstractMap<String, Object> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Map<String, Object> values;
+    private final String json;
+
+    private SerializedContextData(Map<String, Object> values, String json) {
+        this.values = values;
+        this.json = json;
+    }
+
+    /**
+     * 컨텍스트 데이터를 직렬화하여 감쌉니다.
+     *
+     * @param contextData 컨텍스트 데이터 (null이면 빈 데이터)
+     * @throws IllegalArgumentException JSON 직렬화에 실패한 경우
+     */
+    public static SerializedContextData of(Map<String, Object> contextData) {
+        if (contextData instanceof SerializedContextData serialized) {
+            return serialized;
+        }
+
+        Map<String, Object> values = contextData != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(contextData))
+                : Map.of();
+        try {
+            return new SerializedContextData(values, OBJECT_MAPPER.writeValueAsString(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("contextData 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 직렬화된 JSON 문자열
+     */
+    public String json() {
+        return json;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return values.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return values.entrySet();
+    }
+
+    public static final class RawJsonSerializer extends JsonSerializer<SerializedContextData> {
+
+        @Override
+        public void serialize(SerializedContextData value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeRawValue(value.json);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.homesweet.notification.domain.event;
+
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.notification.TemplateNotification;
+import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.exception.NotificationException;
+
+/**
+ * 전체 발송 알림 이벤트
+ *
+ * 시스템/프로모션 알림을 수신자 목록 없이 대상 조건으로 전송합니다.
+ * 사용자별 알림 행을 만들지 않고 한 건만 저장합니다.
+ *
+ * @author dogyungkim
+ */
+public record BroadcastNotificationEvent(
+        TemplateNotification notification,
+        BroadcastAudience audience) {
+    public BroadcastNotificationEvent {
+        if (notification == null) {
+            throw new NotificationException(ErrorCode.DATA_MISSING);
+        }
+        NotificationCategoryType categoryType = notification.getEventType().getCategoryType();
+        if (categoryType != NotificationCategoryType.SYSTEM && categoryType != NotificationCategoryType.PROMOTION) {
+            throw new NotificationException(ErrorCode.NOTIFICATION_EVENT_TYPE_MISMATCH);
+        }
+        if (audience == null) {
+            audience = BroadcastAudience.ALL;
+        }
+    }
+
+    /**
+     * 전체 사용자 대상 생성자
+     */
+    public BroadcastNotificationEvent(TemplateNotification notification) {
+        this(notification, BroadcastAudience.ALL);
+    }
+}
@@ -0,0 +1,15 @@
+package com.homesweet.notification.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모두 읽음 처리 이벤트
+ *
+ * 읽음 기준 시각이 기록된 뒤 발행되며, 알림 행의 is_read 반영은 이 이벤트를 받아 백그라운드에서 처리합니다.
+ *
+ * @author dogyungkim
+ */
+public record NotificationReadAllEvent(
+        Long userId,
+        LocalDateTime readUntil) {
+}
@@ -2,7 +2,6 @@ package com.homesweet.notification.domain.notification;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.homesweet.notification.domain.NotificationTemplateType;
 
 import java.util.Map;
@@ -37,16 +36,12 @@ public interface TemplateNotification {
 
     /**
      * 알림 데이터를 Map으로 변환
-     * ObjectMapper를 사용하여 자동으로 변환합니다.
-     * eventType 필드는 각 Notification 클래스에서 @JsonIgnore로 변환 전에 제외됩니다.
+     * 클래스별로 캐싱된 {@link TemplateNotificationCodec}을 사용하여 변환합니다.
+     * eventType 필드와 @JsonIgnore 필드는 제외됩니다.
      * 
      * @return 변환된 Map 객체 (eventType 제외)
      */
-    @SuppressWarnings("unchecked")
     default Map<String, Object> toMap() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        Map<String, Object> map = objectMapper.convertValue(this, Map.class);
-        map.remove("eventType");
-        return map;
+        return TemplateNotificationCodec.forClass(getClass()).toMap(this);
     }
 }
@@ -0,0 +1,125 @@
+package com.homesweet.notification.domain.notification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 템플릿 알림 → contextData 변환기
+ *
+ * 알림 클래스별로 최초 1회만 필드와 getter를 분석하여 접근자를 생성하고 캐싱합니다.
+ * 이후 변환은 생성된 접근자를 순서대로 호출할 뿐이므로 호출마다 ObjectMapper를 만들거나 리플렉션을 사용하지 않습니다.
+ *
+ * 변환 규칙은 기존 ObjectMapper.convertValue 결과와 동일합니다.
+ * - 필드 선언 순서를 유지
+ * - eventType 필드와 @JsonIgnore 필드는 제외
+ * - null 값도 포함
+ *
+ * @author dogyungkim
+ */
+public final class TemplateNotificationCodec {
+
+    private static final String EVENT_TYPE = "eventType";
+
+    private static final ClassValue<TemplateNotificationCodec> CODECS = new ClassValue<>() {
+        @Override
+        protected TemplateNotificationCodec computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final String[] names;
+    private final Function<Object, Object>[] accessors;
+
+    private TemplateNotificationCodec(String[] names, Function<Object, Object>[] accessors) {
+        this.names = names;
+        this.accessors = accessors;
+    }
+
+    /**
+     * 알림 클래스에 해당하는 변환기 조회 (최초 호출 시 생성 후 캐싱)
+     */
+    public static TemplateNotificationCodec forClass(Class<? extends TemplateNotification> type) {
+        return CODECS.get(type);
+    }
+
+    /**
+     * 알림 데이터를 contextData Map으로 변환
+     */
+    public Map<String, Object> toMap(TemplateNotification notification) {
+        // LinkedHashMap의 기본 load factor(0.75)로 재해싱이 일어나지 않도록 용량 지정
+        Map<String, Object> map = new LinkedHashMap<>((int) (names.length / 0.75f) + 1);
+        for (int i = 0; i < names.length; i++) {
+            map.put(names[i], accessors[i].apply(notification));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TemplateNotificationCodec create(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        List<Function<Object, Object>> accessors = new ArrayList<>();
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())
+                    || field.isSynthetic()
+                    || EVENT_TYPE.equals(field.getName())
+                    || field.isAnnotationPresent(JsonIgnore.class)) {
+                continue;
+            }
+            names.add(field.getName());
+            accessors.add(accessor(type, findGetter(type, field)));
+        }
+
+        return new TemplateNotificationCodec(
+                names.toArray(String[]::new),
+                accessors.toArray(Function[]::new));
+    }
+
+    private static Method findGetter(Class<?> type, Field field) {
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String prefix = field.getType() == boolean.class ? "is" : "get";
+        try {
+            return type.getMethod(prefix + suffix);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(
+                    "알림 필드의 getter를 찾을 수 없습니다: " + type.getName() + "." + name, e);
+        }
+    }
+
+    /**
+     * getter를 호출하는 Function을 LambdaMetafactory로 생성합니다.
+     * 생성된 접근자는 일반 람다와 동일하게 JIT 인라이닝 대상이 됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> accessor(Class<?> type, Method getter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(getter.getReturnType(), type).wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(
+                    "알림 필드 접근자 생성에 실패했습니다: " + type.getName() + "." + getter.getName(), e);
+        }
+    }
+}
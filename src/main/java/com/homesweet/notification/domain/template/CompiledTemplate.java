@@ -0,0 +1,136 @@
+package com.homesweet.notification.domain.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 분석된 알림 템플릿 문자열
+ *
+ * "{userName}님의 주문이 완료되었습니다." 와 같은 템플릿을 최초 1회만 리터럴/변수 구간으로 분석하여 캐싱하고,
+ * 이후에는 구간을 순서대로 이어 붙이기만 합니다. (정규식이나 호출마다의 파싱 없음)
+ *
+ * - contextData에 없는 변수는 "{변수명}" 그대로 남깁니다.
+ * - 닫히지 않은 "{"는 리터럴로 취급합니다.
+ *
+ * @author dogyungkim
+ */
+public final class CompiledTemplate {
+
+    /** 템플릿 문자열 → 분석 결과 (템플릿 종류 수만큼만 생성됨) */
+    private static final Map<String, CompiledTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /** 변수 값 길이를 알 수 없으므로 변수당 예상 길이로 버퍼를 잡습니다. */
+    private static final int EXPECTED_VARIABLE_LENGTH = 16;
+
+    private final String source;
+    private final String[] segments;
+    private final boolean[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, String[] segments, boolean[] variables, int literalLength) {
+        this.source = source;
+        this.segments = segments;
+        this.variables = variables;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * 템플릿 문자열을 분석합니다. 같은 문자열은 캐싱된 결과를 반환합니다.
+     */
+    public static CompiledTemplate compile(String source) {
+        return CACHE.computeIfAbsent(source, CompiledTemplate::parse);
+    }
+
+    /**
+     * 템플릿 문자열을 contextData로 렌더링합니다.
+     *
+     * @param source      템플릿 문자열 (null이면 null 반환)
+     * @param contextData 변수 값
+     */
+    public static String render(String source, Map<String, ?> contextData) {
+        if (source == null) {
+            return null;
+        }
+        return compile(source).render(contextData);
+    }
+
+    /**
+     * contextData로 변수를 치환한 문자열을 만듭니다.
+     */
+    public String render(Map<String, ?> contextData) {
+        if (segments.length == 1 && !variables[0]) {
+            return source;
+        }
+
+        StringBuilder sb = new StringBuilder(literalLength + (segments.length * EXPECTED_VARIABLE_LENGTH));
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (!variables[i]) {
+                sb.append(segment);
+                continue;
+            }
+
+            Object value = contextData != null ? contextData.get(segment) : null;
+            if (value != null) {
+                sb.append(value);
+            } else {
+                sb.append('{').append(segment).append('}');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static CompiledTemplate parse(String source) {
+        List<String> segments = new ArrayList<>();
+        List<Boolean> variables = new ArrayList<>();
+        int literalLength = 0;
+
+        int literalStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int open = source.indexOf('{', i);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            // "{"가 연속되면 마지막 "{"부터 변수로 취급
+            int nestedOpen = source.lastIndexOf('{', close);
+            if (nestedOpen > open) {
+                open = nestedOpen;
+            }
+            if (close == open + 1) {
+                // "{}"는 리터럴
+                i = close + 1;
+                continue;
+            }
+
+            if (open > literalStart) {
+                segments.add(source.substring(literalStart, open));
+                variables.add(false);
+                literalLength += open - literalStart;
+            }
+            segments.add(source.substring(open + 1, close));
+            variables.add(true);
+
+            literalStart = close + 1;
+            i = literalStart;
+        }
+
+        if (literalStart < source.length() || segments.isEmpty()) {
+            segments.add(source.substring(literalStart));
+            variables.add(false);
+            literalLength += source.length() - literalStart;
+        }
+
+        boolean[] variableFlags = new boolean[variables.size()];
+        for (int j = 0; j < variableFlags.length; j++) {
+            variableFlags[j] = variables.get(j);
+        }
+        return new CompiledTemplate(source, segments.toArray(String[]::new), variableFlags, literalLength);
+    }
+}
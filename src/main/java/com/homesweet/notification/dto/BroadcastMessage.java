@@ -0,0 +1,20 @@
+package com.homesweet.notification.dto;
+
+import com.homesweet.notification.domain.BroadcastAudience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 발송 알림 메시지
+ *
+ * 수신자 ID 대신 대상 조건을 담아 한 번만 발행합니다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class BroadcastMessage {
+    private BroadcastAudience audience;
+    private PushNotificationDTO data;
+}
@@ -0,0 +1,54 @@
+package com.homesweet.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.template.CompiledTemplate;
+
+/**
+ * 알림함 조회용 개인 알림 행 (읽기 전용 프로젝션)
+ *
+ * 엔티티 대신 필요한 컬럼만 조회하므로 영속성 컨텍스트에 적재되지 않고, 템플릿/카테고리 지연 로딩도 발생하지 않습니다.
+ * 카테고리는 조인 없이 템플릿의 카테고리 ID로 판단합니다. (커스텀 알림은 템플릿 관련 컬럼이 null)
+ */
+public record InboxNotificationRow(
+        Long id,
+        String title,
+        String content,
+        String redirectUrl,
+        Long categoryId,
+        Map<String, Object> contextData,
+        Boolean isRead,
+        LocalDateTime createdAt) {
+
+    /**
+     * 템플릿 알림은 contextData로 변수를 치환하고, 커스텀 알림은 contextData의 title/content/redirectUrl을 사용합니다.
+     */
+    public PushNotificationDTO toPushNotificationDTO() {
+        // Custom 알림인 경우 (template이 null)
+        if (categoryId == null) {
+            return PushNotificationDTO.builder()
+                    .notificationId(id)
+                    .title((String) contextData.getOrDefault("title", ""))
+                    .content((String) contextData.getOrDefault("content", ""))
+                    .redirectUrl((String) contextData.getOrDefault("redirectUrl", ""))
+                    .contextData(contextData)
+                    .isRead(isRead)
+                    .categoryType(NotificationCategoryType.CUSTOM)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        return PushNotificationDTO.builder()
+                .notificationId(id)
+                .title(CompiledTemplate.render(title, contextData))
+                .content(CompiledTemplate.render(content, contextData))
+                .redirectUrl(CompiledTemplate.render(redirectUrl, contextData))
+                .contextData(contextData)
+                .isRead(isRead)
+                .categoryType(NotificationCategoryType.fromCategoryId(categoryId))
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.homesweet.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림 변경 동기화 응답
+ *
+ * 다음 요청에는 nextSince를 since로, version을 version으로 전달합니다.
+ * hasMore가 true이면 한 번에 전달하지 못한 변경이 남아 있으므로 바로 다시 요청합니다.
+ */
+@Builder
+@Getter
+public class NotificationChangesDTO {
+    /** since 이후에 생성된 알림 (오래된 순) */
+    List<PushNotificationDTO> notifications;
+    /** version 이후의 읽음/삭제 상태 변경 (오래된 순) */
+    List<NotificationStateChangeDTO> changes;
+    /** 모두 읽음 기준 시각 (이전에 생성된 알림은 읽음, 없으면 null) */
+    LocalDateTime readUntil;
+    Long nextSince;
+    String version;
+    boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.homesweet.notification.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림함 페이지 응답
+ *
+ * nextCursor를 다음 요청의 cursor로 전달하면 이어지는 페이지를 조회합니다. (마지막 페이지이면 null)
+ */
+@Builder
+@Getter
+public class NotificationPageDTO {
+    List<PushNotificationDTO> notifications;
+    String nextCursor;
+    boolean hasNext;
+}
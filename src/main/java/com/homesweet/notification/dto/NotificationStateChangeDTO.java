@@ -0,0 +1,18 @@
+package com.homesweet.notification.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 상태 변경 (읽음/삭제)
+ *
+ * @param notificationId 알림 ID (개인 알림 또는 전체 발송 알림)
+ * @param isRead         읽음 여부
+ * @param isDeleted      삭제 여부
+ * @param updatedAt      변경 시각
+ */
+public record NotificationStateChangeDTO(
+        Long notificationId,
+        boolean isRead,
+        boolean isDeleted,
+        LocalDateTime updatedAt) {
+}
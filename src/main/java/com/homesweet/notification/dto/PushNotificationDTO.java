@@ -8,7 +8,7 @@ import com.homesweet.notification.domain.NotificationCategoryType;
 import lombok.Builder;
 import lombok.Getter;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class PushNotificationDTO {
     Long notificationId;
@@ -0,0 +1,68 @@
+package com.homesweet.notification.entity;
+
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.exception.NotificationException;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 전체 발송 알림 엔티티
+ *
+ * 시스템/프로모션 알림을 사용자별로 복제하지 않고 한 건만 저장합니다.
+ * ID는 user_notification과 같은 시퀀스에서 할당하므로 두 테이블의 알림 ID가 겹치지 않습니다.
+ *
+ * @author dogyungkim
+ */
+@Entity
+@Table(name = "broadcast_notification", indexes = @Index(
+        name = "idx_broadcast_notification_audience_created_at", columnList = "audience, created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BroadcastNotification {
+
+    @Id
+    @Column(name = "broadcast_notification_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_template_id", nullable = false)
+    private NotificationTemplate template;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "context_data", nullable = false, columnDefinition = "JSON", updatable = false)
+    private Map<String, Object> contextData;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "audience", nullable = false, length = 20)
+    private BroadcastAudience audience;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public BroadcastNotification(Long id,
+            NotificationTemplate template,
+            Map<String, Object> contextData,
+            BroadcastAudience audience) {
+        if (contextData == null) {
+            throw new NotificationException(ErrorCode.NOTIFICATION_CONTEXT_DATA_IS_NULL);
+        }
+
+        this.id = id;
+        this.template = template;
+        this.contextData = contextData;
+        this.audience = audience != null ? audience : BroadcastAudience.ALL;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,78 @@
+package com.homesweet.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 전체 발송 알림의 사용자별 상태
+ *
+ * 사용자가 읽음/삭제 처리한 경우에만 행이 생기며, 행이 없으면 읽지 않은 상태입니다.
+ *
+ * @author dogyungkim
+ */
+@Entity
+@Table(name = "broadcast_notification_state", indexes = @Index(
+        name = "idx_broadcast_notification_state_user_updated",
+        columnList = "user_id, updated_at, broadcast_notification_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BroadcastNotificationState {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead = false;
+
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted = false;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BroadcastNotificationState(Long userId, Long broadcastNotificationId) {
+        this.id = new Key(userId, broadcastNotificationId);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getBroadcastNotificationId() {
+        return id.getBroadcastNotificationId();
+    }
+
+    public void markAsRead() {
+        this.isRead = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markAsDeleted() {
+        this.isDeleted = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 복합 키 (user_id, broadcast_notification_id)
+     */
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "broadcast_notification_id")
+        private Long broadcastNotificationId;
+
+        public Key(Long userId, Long broadcastNotificationId) {
+            this.userId = userId;
+            this.broadcastNotificationId = broadcastNotificationId;
+        }
+    }
+}
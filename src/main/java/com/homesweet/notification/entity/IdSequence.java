@@ -0,0 +1,28 @@
+package com.homesweet.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 시퀀스 엔티티
+ *
+ * 애플리케이션에서 블록 단위로 ID를 할당하기 위한 시퀀스 테이블입니다.
+ * 값 변경은 {@link com.homesweet.notification.repository.UserNotificationIdAllocator}에서 JDBC로만 수행합니다.
+ *
+ * @author dogyungkim
+ */
+@Entity
+@Table(name = "id_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 64)
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
@@ -0,0 +1,30 @@
+package com.homesweet.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 읽음 기준 시각
+ *
+ * read_until 이전에 생성된 알림은 is_read 값과 관계없이 읽은 것으로 간주합니다.
+ * 값 변경은 {@link com.homesweet.notification.repository.NotificationReadWatermarkRepository#upsert}로만 수행합니다.
+ *
+ * @author dogyungkim
+ */
+@Entity
+@Table(name = "notification_read_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "read_until", nullable = false)
+    private LocalDateTime readUntil;
+}
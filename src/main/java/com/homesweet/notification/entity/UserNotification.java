@@ -25,15 +25,24 @@ import java.util.Map;
  * @author dogyungkim
  */
 @Entity
-@Table(name = "user_notification")
+@Table(name = "user_notification", indexes = {
+        @Index(name = "idx_user_notification_user_deleted_created",
+                columnList = "user_id, is_deleted, created_at, user_notification_id"),
+        @Index(name = "idx_user_notification_user_updated",
+                columnList = "user_id, updated_at, user_notification_id") })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @DynamicUpdate
 public class UserNotification {
 
+    /**
+     * 알림 ID
+     *
+     * {@link com.homesweet.notification.repository.UserNotificationIdAllocator}가 할당합니다.
+     * ID 없이 JPA로 저장하면 실패하므로 저장 전에 반드시 할당해야 합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_notification_id")
     private Long id;
 
@@ -41,6 +50,15 @@ public class UserNotification {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 수신자 ID (읽기 전용 매핑)
+     *
+     * User 엔티티를 로딩하지 않고도 수신자를 식별하기 위해 사용합니다.
+     * 컬럼 값은 user 연관관계를 통해 기록됩니다.
+     */
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "notification_template_id", nullable = true)
     private NotificationTemplate template;
@@ -59,6 +77,14 @@ public class UserNotification {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt; // JPA Auditing이 자동으로 설정
 
+    /**
+     * 읽음/삭제 처리 시각 (처리된 적 없으면 null)
+     *
+     * 일괄 UPDATE 쿼리에서 함께 기록하며, 변경 동기화 조회에 사용합니다.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Builder
     public UserNotification(User user,
             NotificationTemplate template,
@@ -74,12 +100,39 @@ public class UserNotification {
         }
 
         this.user = user;
+        this.userId = user.getId();
         this.template = template;
         this.contextData = contextData;
         this.isRead = isRead != null ? isRead : false;
         this.isDeleted = isDeleted != null ? isDeleted : false;
     }
 
+    /**
+     * 사용자 ID만으로 알림을 생성합니다.
+     *
+     * User 엔티티 없이 생성되므로 JDBC 일괄 저장 전용입니다. (JPA save 시 user_id가 기록되지 않음)
+     *
+     * @param userId      수신자 ID
+     * @param template    알림 템플릿 (Custom 알림의 경우 null)
+     * @param contextData 알림 컨텍스트 데이터
+     */
+    public static UserNotification forRecipient(Long userId,
+            NotificationTemplate template,
+            Map<String, Object> contextData) {
+        if (userId == null) {
+            throw new NotificationException(ErrorCode.NOTIFICATION_USER_ID_IS_NULL);
+        }
+        if (contextData == null) {
+            throw new NotificationException(ErrorCode.NOTIFICATION_CONTEXT_DATA_IS_NULL);
+        }
+
+        UserNotification userNotification = new UserNotification();
+        userNotification.userId = userId;
+        userNotification.template = template;
+        userNotification.contextData = contextData;
+        return userNotification;
+    }
+
     public void markAsRead() {
         this.isRead = true;
     }
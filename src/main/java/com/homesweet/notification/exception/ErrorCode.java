@@ -71,6 +71,7 @@ public enum ErrorCode {
     NOTIFICATION_EVENT_TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "알림 이벤트 타입이 일치하지 않습니다"),
     NOTIFICATION_CONTEXT_DATA_IS_NULL(HttpStatus.BAD_REQUEST, "알림 컨텍스트 데이터가 없습니다"),
     NOTIFICATION_USER_ID_IS_NULL(HttpStatus.BAD_REQUEST, "알림 사용자 ID가 없습니다"),
+    INVALID_NOTIFICATION_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 알림 커서입니다"),
 
     // Chat
     ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
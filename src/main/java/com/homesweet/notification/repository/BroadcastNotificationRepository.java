@@ -0,0 +1,112 @@
+package com.homesweet.notification.repository;
+
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.entity.BroadcastNotification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 전체 발송 알림 리포지토리
+ *
+ * @author dogyungkim
+ */
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    /**
+     * 사용자가 받는 전체 발송 알림 조회 (가입 이후, 사용자가 삭제한 것 제외, 최대 20개, 최신순)
+     * template과 category를 함께 조회하여 N+1 문제 방지
+     */
+    @Query("SELECT bn FROM BroadcastNotification bn " +
+            "JOIN FETCH bn.template t " +
+            "JOIN FETCH t.category " +
+            "WHERE bn.audience IN :audiences AND bn.createdAt >= :since " +
+            "AND bn.createdAt >= (SELECT u.createdAt FROM User u WHERE u.id = :userId) " +
+            "AND NOT EXISTS (SELECT s FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.id.broadcastNotificationId = bn.id AND s.isDeleted = true) " +
+            "ORDER BY bn.createdAt DESC LIMIT 20")
+    List<BroadcastNotification> findTop20VisibleTo(@Param("userId") Long userId,
+            @Param("audiences") Collection<BroadcastAudience> audiences,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 받는 전체 발송 알림 페이지 조회 (가입 이후, 커서 이후, 최신순, 사용자가 삭제한 것 제외)
+     *
+     * @param categories 조회할 카테고리
+     */
+    @Query("SELECT bn FROM BroadcastNotification bn " +
+            "JOIN FETCH bn.template t " +
+            "JOIN FETCH t.category c " +
+            "WHERE bn.audience IN :audiences AND bn.createdAt >= :since AND c.categoryType IN :categories " +
+            "AND (bn.createdAt < :createdAt OR (bn.createdAt = :createdAt AND bn.id < :id)) " +
+            "AND bn.createdAt >= (SELECT u.createdAt FROM User u WHERE u.id = :userId) " +
+            "AND NOT EXISTS (SELECT s FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.id.broadcastNotificationId = bn.id AND s.isDeleted = true) " +
+            "ORDER BY bn.createdAt DESC, bn.id DESC")
+    List<BroadcastNotification> findPageVisibleTo(@Param("userId") Long userId,
+            @Param("audiences") Collection<BroadcastAudience> audiences,
+            @Param("since") LocalDateTime since,
+            @Param("categories") Collection<NotificationCategoryType> categories,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * 사용자가 받는 전체 발송 알림의 생성 시각 조회 (변경 동기화 기준 위치)
+     */
+    @Query("SELECT bn.createdAt FROM BroadcastNotification bn WHERE bn.id = :id AND bn.audience IN :audiences")
+    Optional<LocalDateTime> findCreatedAtByIdAndAudienceIn(@Param("id") Long id,
+            @Param("audiences") Collection<BroadcastAudience> audiences);
+
+    /**
+     * 기준 위치 이후에 생성된 전체 발송 알림 조회 (가입 이후, 오래된 순, 사용자가 삭제한 것 제외)
+     */
+    @Query("SELECT bn FROM BroadcastNotification bn " +
+            "JOIN FETCH bn.template t " +
+            "JOIN FETCH t.category " +
+            "WHERE bn.audience IN :audiences AND bn.createdAt >= :since AND bn.createdAt <= :settledAt " +
+            "AND (bn.createdAt > :createdAt OR (bn.createdAt = :createdAt AND bn.id > :id)) " +
+            "AND bn.createdAt >= (SELECT u.createdAt FROM User u WHERE u.id = :userId) " +
+            "AND NOT EXISTS (SELECT s FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.id.broadcastNotificationId = bn.id AND s.isDeleted = true) " +
+            "ORDER BY bn.createdAt ASC, bn.id ASC")
+    List<BroadcastNotification> findCreatedAfterVisibleTo(@Param("userId") Long userId,
+            @Param("audiences") Collection<BroadcastAudience> audiences,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("settledAt") LocalDateTime settledAt,
+            Limit limit);
+
+    /**
+     * 사용자가 받는 전체 발송 알림 중 읽지 않은 알림 수 (가입 이후, 읽음 기준 시각 이후)
+     *
+     * @param readUntil 읽음 기준 시각 (없으면 null)
+     */
+    @Query("SELECT COUNT(bn) FROM BroadcastNotification bn " +
+            "WHERE bn.audience IN :audiences AND bn.createdAt >= :since " +
+            "AND bn.createdAt >= (SELECT u.createdAt FROM User u WHERE u.id = :userId) " +
+            "AND (:readUntil IS NULL OR bn.createdAt > :readUntil) " +
+            "AND NOT EXISTS (SELECT s FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.id.broadcastNotificationId = bn.id AND s.isRead = true)")
+    long countUnreadVisibleTo(@Param("userId") Long userId,
+            @Param("audiences") Collection<BroadcastAudience> audiences,
+            @Param("since") LocalDateTime since,
+            @Param("readUntil") LocalDateTime readUntil);
+
+    /**
+     * 사용자가 받는 전체 발송 알림 중 요청한 ID만 조회 (ID만 조회)
+     */
+    @Query("SELECT bn.id FROM BroadcastNotification bn WHERE bn.id IN :ids AND bn.audience IN :audiences")
+    List<Long> findIdsByIdInAndAudienceIn(@Param("ids") Collection<Long> ids,
+            @Param("audiences") Collection<BroadcastAudience> audiences);
+}
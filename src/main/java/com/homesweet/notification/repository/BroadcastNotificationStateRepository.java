@@ -0,0 +1,45 @@
+package com.homesweet.notification.repository;
+
+import com.homesweet.notification.dto.NotificationStateChangeDTO;
+import com.homesweet.notification.entity.BroadcastNotificationState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 전체 발송 알림 사용자별 상태 리포지토리
+ *
+ * @author dogyungkim
+ */
+@Repository
+public interface BroadcastNotificationStateRepository
+        extends JpaRepository<BroadcastNotificationState, BroadcastNotificationState.Key> {
+
+    /**
+     * 사용자의 전체 발송 알림 상태 조회
+     */
+    @Query("SELECT s FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.id.broadcastNotificationId IN :broadcastNotificationIds")
+    List<BroadcastNotificationState> findByUserIdAndBroadcastNotificationIdIn(@Param("userId") Long userId,
+            @Param("broadcastNotificationIds") Collection<Long> broadcastNotificationIds);
+
+    /**
+     * 기준 위치 이후에 변경된 사용자의 전체 발송 알림 상태 조회 (오래된 순)
+     */
+    @Query("SELECT new com.homesweet.notification.dto.NotificationStateChangeDTO(" +
+            "s.id.broadcastNotificationId, s.isRead, s.isDeleted, s.updatedAt) FROM BroadcastNotificationState s " +
+            "WHERE s.id.userId = :userId AND s.updatedAt <= :settledAt " +
+            "AND (s.updatedAt > :updatedAt OR (s.updatedAt = :updatedAt AND s.id.broadcastNotificationId > :id)) " +
+            "ORDER BY s.updatedAt ASC, s.id.broadcastNotificationId ASC")
+    List<NotificationStateChangeDTO> findChangesAfter(@Param("userId") Long userId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            @Param("settledAt") LocalDateTime settledAt,
+            Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.homesweet.notification.repository;
+
+import com.homesweet.notification.entity.NotificationReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 사용자별 읽음 기준 시각 리포지토리
+ *
+ * @author dogyungkim
+ */
+@Repository
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermark, Long> {
+
+    /**
+     * 읽음 기준 시각 조회
+     */
+    @Query("SELECT w.readUntil FROM NotificationReadWatermark w WHERE w.userId = :userId")
+    Optional<LocalDateTime> findReadUntilByUserId(@Param("userId") Long userId);
+
+    /**
+     * 읽음 기준 시각을 한 번의 쿼리로 기록 (기존 값보다 이전으로는 되돌리지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO notification_read_watermark (user_id, read_until) VALUES (:userId, :readUntil) " +
+            "ON DUPLICATE KEY UPDATE read_until = GREATEST(read_until, VALUES(read_until))", nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("readUntil") LocalDateTime readUntil);
+}
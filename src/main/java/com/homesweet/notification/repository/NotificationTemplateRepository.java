@@ -3,9 +3,12 @@ package com.homesweet.notification.repository;
 import com.homesweet.notification.domain.NotificationTemplateType;
 import com.homesweet.notification.entity.NotificationTemplate;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,4 +19,13 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface NotificationTemplateRepository extends JpaRepository<NotificationTemplate, Long> {
     Optional<NotificationTemplate> findByTemplateType(NotificationTemplateType templateType);
-}
\ No newline at end of file
+
+    /**
+     * 카테고리를 함께 조회 (레지스트리 적재용)
+     */
+    @Query("SELECT t FROM NotificationTemplate t JOIN FETCH t.category")
+    List<NotificationTemplate> findAllWithCategory();
+
+    @Query("SELECT t FROM NotificationTemplate t JOIN FETCH t.category WHERE t.templateType = :templateType")
+    Optional<NotificationTemplate> findWithCategoryByTemplateType(@Param("templateType") NotificationTemplateType templateType);
+}
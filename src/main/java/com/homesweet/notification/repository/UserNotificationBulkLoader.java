@@ -0,0 +1,121 @@
+package com.homesweet.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대량 알림 스트리밍 적재기
+ *
+ * 모든 수신자가 같은 템플릿/contextData를 공유하는 대량 발송(시스템/프로모션 등)을
+ * 탭 구분 행 스트림으로 만들어 DB의 파일 적재 기능으로 한 번에 저장합니다.
+ * 행은 읽히는 시점에 생성되므로 UserNotification 객체나 전체 파일 내용을 메모리에 만들지 않습니다.
+ *
+ * 행 형식: user_notification_id, user_id, notification_template_id, context_data, is_read, is_deleted, created_at
+ * (구분자는 탭, 줄바꿈은 \n, 이스케이프 없음, NULL은 문자열 NULL)
+ *
+ * 적재 방식에 따라 호출한 트랜잭션에 참여하지 않고 바로 커밋될 수 있습니다. (MySQL)
+ * 적재할 수 없는 행(그 사이 탈퇴한 수신자 등)을 건너뛰는 경우 실패로 처리하지 않고 실제로 저장된 알림만 반환합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class UserNotificationBulkLoader {
+
+    protected static final String[] COLUMNS = {
+            "user_notification_id", "user_id", "notification_template_id", "context_data",
+            "is_read", "is_deleted", "created_at" };
+
+    private static final String SAVED_IDS_SQL =
+            "SELECT user_notification_id FROM user_notification WHERE user_notification_id BETWEEN ? AND ?";
+
+    protected final JdbcTemplate jdbcTemplate;
+    protected final UserNotificationIdAllocator idAllocator;
+
+    /**
+     * 적재 결과
+     *
+     * @param userIds         알림이 저장된 수신자 ID
+     * @param notificationIds 수신자 순서와 같은 순서로 할당된 알림 ID
+     */
+    public record Loaded(List<Long> userIds, long[] notificationIds) {
+
+        public int size() {
+            return notificationIds.length;
+        }
+    }
+
+    /**
+     * 행 스트림을 테이블에 적재합니다.
+     *
+     * @param rows 탭 구분 행 스트림
+     * @return 적재된 행 수
+     */
+    protected abstract long loadRows(InputStream rows) throws IOException;
+
+    /**
+     * 수신자별 알림을 한 번의 적재로 저장합니다.
+     *
+     * @param userIds     수신자 ID (존재 여부 검증이 끝난 목록)
+     * @param templateId  알림 템플릿 ID (Custom 알림의 경우 null)
+     * @param contextJson 모든 수신자가 공유하는 contextData JSON
+     * @return 저장된 수신자와 알림 ID (적재되지 않은 행은 제외)
+     */
+    public Loaded load(List<Long> userIds, Long templateId, String contextJson) {
+        if (userIds.isEmpty()) {
+            return new Loaded(List.of(), new long[0]);
+        }
+        // 이스케이프 없이 적재하므로 구분자 문자가 있으면 행이 깨짐 (Jackson 기본 출력에는 포함되지 않음)
+        if (contextJson.indexOf('\t') >= 0 || contextJson.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("contextData JSON에 탭 또는 줄바꿈 문자가 포함되어 있습니다.");
+        }
+
+        long[] ids = idAllocator.allocate(userIds.size());
+        long loaded;
+        try (InputStream rows = new UserNotificationRowStream(ids, userIds, templateId, contextJson,
+                LocalDateTime.now())) {
+            loaded = loadRows(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 행 스트림 적재에 실패했습니다.", e);
+        }
+
+        if (loaded != ids.length) {
+            // 적재된 행은 이미 커밋되었을 수 있으므로 실패로 처리하지 않음 (다시 저장하면 중복)
+            log.warn("일부 알림이 적재되지 않음: expected={}, loaded={}", ids.length, loaded);
+            return saved(userIds, ids);
+        }
+        log.info("알림 스트리밍 적재 완료: count={}", loaded);
+        return new Loaded(userIds, ids);
+    }
+
+    /**
+     * 할당한 ID 중 실제로 저장된 알림만 골라냅니다.
+     */
+    private Loaded saved(List<Long> userIds, long[] ids) {
+        Set<Long> savedIds = new HashSet<>(jdbcTemplate.queryForList(SAVED_IDS_SQL, Long.class,
+                Arrays.stream(ids).min().getAsLong(), Arrays.stream(ids).max().getAsLong()));
+
+        List<Long> savedUserIds = new ArrayList<>(savedIds.size());
+        long[] savedNotificationIds = new long[ids.length];
+        int count = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (savedIds.contains(ids[i])) {
+                savedUserIds.add(userIds.get(i));
+                savedNotificationIds[count++] = ids[i];
+            }
+        }
+        return new Loaded(savedUserIds, Arrays.copyOf(savedNotificationIds, count));
+    }
+}
@@ -0,0 +1,169 @@
+package com.homesweet.notification.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * user_notification_id 블록 할당기 (hi/lo)
+ *
+ * id_sequence 테이블에서 ID 블록을 예약해 두고 메모리에서 순서대로 나누어 줍니다.
+ * INSERT 전에 ID가 정해지므로 LAST_INSERT_ID 조회가 필요 없고,
+ * 여러 스레드/인스턴스가 동시에 INSERT 해도 ID가 겹치지 않습니다.
+ *
+ * 블록 예약은 애플리케이션 커넥션 풀이 아닌 전용 커넥션(풀 크기 1)의 별도 트랜잭션에서 행 잠금(UPDATE)으로 수행하므로,
+ * 호출한 트랜잭션이 롤백되어도 예약된 블록은 재사용되지 않습니다. (ID에 빈 구간이 생길 수 있음)
+ * 호출한 쪽은 이미 풀 커넥션을 가진 트랜잭션 안에 있으므로, 예약에 풀 커넥션을 하나 더 요구하면
+ * 모든 커넥션을 가진 스레드가 잠금을 기다리는 동안 잠금을 가진 스레드는 커넥션을 기다리는 교착이 생깁니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+public class UserNotificationIdAllocator implements AutoCloseable {
+
+    private static final String SEQUENCE_NAME = "user_notification";
+
+    private static final String RESERVE_SQL = "UPDATE id_sequence SET next_val = next_val + ? WHERE sequence_name = ?";
+    private static final String SELECT_SQL = "SELECT next_val FROM id_sequence WHERE sequence_name = ?";
+    private static final String INIT_SQL = "INSERT INTO id_sequence (sequence_name, next_val) "
+            + "SELECT ?, COALESCE(MAX(user_notification_id), 0) + 1 FROM user_notification";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate sequenceTransaction;
+    private final int blockSize;
+
+    /** 직접 생성한 전용 커넥션 풀 (종료 시 닫음) */
+    private final HikariDataSource ownedDataSource;
+
+    /** Virtual Thread가 DB 호출 중 캐리어 스레드를 고정(pinning)하지 않도록 synchronized 대신 사용 */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    @Autowired
+    public UserNotificationIdAllocator(
+            DataSourceProperties dataSourceProperties,
+            @Value("${notification.id-allocator.block-size:1000}") int blockSize) {
+        this(sequenceDataSource(dataSourceProperties), blockSize, true);
+    }
+
+    /**
+     * @param sequenceDataSource id_sequence 예약에만 사용하는 DataSource (애플리케이션 커넥션 풀과 분리)
+     */
+    public UserNotificationIdAllocator(DataSource sequenceDataSource, int blockSize) {
+        this(sequenceDataSource, blockSize, false);
+    }
+
+    private UserNotificationIdAllocator(DataSource sequenceDataSource, int blockSize, boolean owned) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("notification.id-allocator.block-size는 0보다 커야 합니다.");
+        }
+        this.jdbcTemplate = new JdbcTemplate(sequenceDataSource);
+        this.sequenceTransaction = new TransactionTemplate(new DataSourceTransactionManager(sequenceDataSource));
+        this.blockSize = blockSize;
+        this.ownedDataSource = owned ? (HikariDataSource) sequenceDataSource : null;
+    }
+
+    /**
+     * 블록 예약 전용 커넥션 풀
+     *
+     * 예약은 잠금 안에서 한 번에 하나씩만 수행되므로 커넥션 하나면 충분합니다.
+     */
+    private static HikariDataSource sequenceDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("id-allocator");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
+
+    /**
+     * 직접 생성한 전용 커넥션 풀을 닫습니다. (빈 종료 시 호출)
+     */
+    @Override
+    public void close() {
+        if (ownedDataSource != null) {
+            ownedDataSource.close();
+        }
+    }
+
+    /**
+     * ID 하나를 할당합니다.
+     */
+    public long nextId() {
+        return allocate(1)[0];
+    }
+
+    /**
+     * ID를 여러 개 할당합니다.
+     *
+     * 현재 블록에 남은 ID가 부족하면 새 블록을 예약합니다. (연속된 값이 보장되지는 않음)
+     *
+     * @param count 할당할 ID 수
+     * @return 오름차순으로 정렬된 ID 배열
+     */
+    public long[] allocate(int count) {
+        long[] ids = new long[count];
+        lock.lock();
+        try {
+            int filled = 0;
+            while (filled < count) {
+                if (next >= limit) {
+                    reserveBlock(Math.max(blockSize, count - filled));
+                }
+                while (filled < count && next < limit) {
+                    ids[filled++] = next++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
+
+    private void reserveBlock(int size) {
+        Long end = sequenceTransaction.execute(status -> {
+            if (jdbcTemplate.update(RESERVE_SQL, size, SEQUENCE_NAME) == 0) {
+                initializeSequence();
+                jdbcTemplate.update(RESERVE_SQL, size, SEQUENCE_NAME);
+            }
+            return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, SEQUENCE_NAME);
+        });
+        if (end == null) {
+            throw new IllegalStateException("ID 블록 예약에 실패했습니다: sequence=" + SEQUENCE_NAME);
+        }
+
+        // UPDATE 이후 값이므로 [end - size, end) 구간이 이번에 예약된 블록
+        this.next = end - size;
+        this.limit = end;
+        log.debug("ID 블록 예약: sequence={}, range={}-{}", SEQUENCE_NAME, next, limit - 1);
+    }
+
+    /**
+     * 시퀀스 행이 없으면 기존 데이터의 최대 ID 다음 값으로 생성합니다.
+     */
+    private void initializeSequence() {
+        try {
+            jdbcTemplate.update(INIT_SQL, SEQUENCE_NAME);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 생성한 경우
+            log.debug("ID 시퀀스가 이미 생성됨: sequence={}", SEQUENCE_NAME);
+        }
+    }
+}
@@ -2,24 +2,33 @@ package com.homesweet.notification.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.domain.SerializedContextData;
 import com.homesweet.notification.entity.UserNotification;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 public abstract class UserNotificationJdbcRepository {
 
     protected final JdbcTemplate jdbcTemplate;
     protected final ObjectMapper objectMapper;
+    protected final UserNotificationIdAllocator idAllocator;
 
-    private static final String BULK_INSERT_SQL = "INSERT INTO user_notification (user_id, notification_template_id, context_data, is_read, is_deleted, created_at) VALUES ";
+    private static final String INSERT_SQL_PREFIX = "INSERT INTO user_notification (user_notification_id, user_id, notification_template_id, context_data, is_read, is_deleted, created_at) VALUES ";
+
+    private volatile String insertSql;
 
     protected abstract String getJsonPlaceholder();
 
@@ -44,42 +53,107 @@ public abstract class UserNotificationJdbcRepository {
     }
 
     private void bulkInsertBatch(List<UserNotification> notifications) {
-        StringBuilder sql = new StringBuilder(BULK_INSERT_SQL);
+        // 1. INSERT 전에 ID 할당 (LAST_INSERT_ID 조회 불필요)
+        assignIds(notifications);
+
+        // 2. 단일 행 INSERT를 JDBC 배치로 실행
+        // 드라이버가 rewriteBatchedStatements로 multi-value INSERT로 합치므로 문장 형태는 배치 크기와 무관하게 하나
+        jdbcTemplate.batchUpdate(getInsertSql(), new InsertSetter(notifications, Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * 단일 행 INSERT 문 (구현체별로 한 번만 생성)
+     */
+    private String getInsertSql() {
+        String sql = insertSql;
+        if (sql == null) {
+            sql = INSERT_SQL_PREFIX + "(?, ?, ?, " + getJsonPlaceholder() + ", ?, ?, ?)";
+            insertSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * 알림 목록을 중간 파라미터 리스트 없이 PreparedStatement에 직접 바인딩
+     *
+     * 같은 contextData 인스턴스를 공유하는 연속된 행은 직렬화 결과를 재사용합니다.
+     */
+    private class InsertSetter implements BatchPreparedStatementSetter {
+
+        private final List<UserNotification> notifications;
+        private final Timestamp createdAt;
 
-        List<Object> params = new ArrayList<>();
+        private Map<String, Object> lastContextData;
+        private String lastContextJson;
+
+        private InsertSetter(List<UserNotification> notifications, Timestamp createdAt) {
+            this.notifications = notifications;
+            this.createdAt = createdAt;
+        }
 
-        for (int i = 0; i < notifications.size(); i++) {
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
             UserNotification n = notifications.get(i);
-            sql.append(String.format("(?, ?, %s, ?, ?, ?)", getJsonPlaceholder()));
-            if (i < notifications.size() - 1) {
-                sql.append(", ");
+            if (n.getContextData() != lastContextData) {
+                lastContextData = n.getContextData();
+                lastContextJson = toJson(lastContextData);
             }
 
-            params.add(n.getUser().getId());
-            params.add(n.getTemplate().getId());
-            try {
-                // JPA처럼 Map을 JSON String으로 변환하여 전달
-                params.add(objectMapper.writeValueAsString(n.getContextData()));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Failed to serialize contextData", e);
+            ps.setLong(1, n.getId());
+            ps.setLong(2, n.getUserId());
+            if (n.getTemplate() != null) {
+                ps.setLong(3, n.getTemplate().getId());
+            } else {
+                ps.setNull(3, Types.BIGINT); // Custom 알림은 템플릿 없음
             }
-            params.add(n.getIsRead());
-            params.add(n.getIsDeleted());
-            params.add(LocalDateTime.now()); // CreatedAt 설정
+            ps.setString(4, lastContextJson);
+            ps.setBoolean(5, Boolean.TRUE.equals(n.getIsRead()));
+            ps.setBoolean(6, Boolean.TRUE.equals(n.getIsDeleted()));
+            ps.setTimestamp(7, createdAt);
         }
 
-        // 1. Bulk Insert 실행
-        jdbcTemplate.update(sql.toString(), params.toArray());
+        @Override
+        public int getBatchSize() {
+            return notifications.size();
+        }
+    }
 
-        // 2. 첫 번째 ID 조회
-        Long lastInsertId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    /**
+     * ID가 없는 알림에 애플리케이션에서 할당한 ID를 지정합니다.
+     */
+    private void assignIds(List<UserNotification> notifications) {
+        int missing = 0;
+        for (UserNotification n : notifications) {
+            if (n.getId() == null) {
+                missing++;
+            }
+        }
+        if (missing == 0) {
+            return;
+        }
 
-        // 3. ID 할당
-        if (lastInsertId != null) {
-            long startId = lastInsertId;
-            for (int i = 0; i < notifications.size(); i++) {
-                notifications.get(i).setId(startId + i);
+        long[] ids = idAllocator.allocate(missing);
+        int index = 0;
+        for (UserNotification n : notifications) {
+            if (n.getId() == null) {
+                n.setId(ids[index++]);
             }
         }
     }
+
+    /**
+     * JPA처럼 Map을 JSON String으로 변환
+     *
+     * 이벤트 단위로 미리 직렬화된 contextData는 보관된 JSON을 그대로 사용합니다.
+     */
+    private String toJson(Map<String, Object> contextData) {
+        if (contextData instanceof SerializedContextData serialized) {
+            return serialized.json();
+        }
+        try {
+            return objectMapper.writeValueAsString(contextData);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize contextData", e);
+        }
+    }
 }
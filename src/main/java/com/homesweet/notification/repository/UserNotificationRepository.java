@@ -1,14 +1,21 @@
 package com.homesweet.notification.repository;
 
+import com.homesweet.notification.dto.InboxNotificationRow;
+import com.homesweet.notification.dto.NotificationStateChangeDTO;
 import com.homesweet.notification.entity.UserNotification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 사용자 알림 리포지토리
@@ -33,11 +40,104 @@ public interface UserNotificationRepository extends JpaRepository<UserNotificati
                      "ORDER BY un.createdAt DESC LIMIT 20")
        List<UserNotification> findTop20ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("userId") Long userId);
 
+       /**
+        * 알림함 조회용 프로젝션 (엔티티를 적재하지 않고 필요한 컬럼만 조회)
+        *
+        * 카테고리는 템플릿의 FK 값만 사용하므로 카테고리 테이블은 조인하지 않습니다.
+        */
+       String INBOX_ROW = "SELECT new com.homesweet.notification.dto.InboxNotificationRow(" +
+                     "un.id, t.title, t.content, t.redirectUrl, t.category.id, un.contextData, un.isRead, un.createdAt) " +
+                     "FROM UserNotification un LEFT JOIN un.template t ";
+
+       /**
+        * 사용자의 알림함 조회 (최신순)
+        */
+       @Query(INBOX_ROW +
+                     "WHERE un.userId = :userId AND un.isDeleted = false " +
+                     "ORDER BY un.createdAt DESC, un.id DESC")
+       List<InboxNotificationRow> findInboxByUserId(@Param("userId") Long userId, Limit limit);
+
+       /**
+        * 사용자의 알림 페이지 조회 (커서 이후, 최신순)
+        *
+        * OFFSET 대신 (created_at, id) 기준으로 이어서 조회하므로 페이지 위치와 관계없이 인덱스 범위 탐색으로 처리됩니다.
+        */
+       @Query(INBOX_ROW +
+                     "WHERE un.userId = :userId AND un.isDeleted = false " +
+                     "AND (un.createdAt < :createdAt OR (un.createdAt = :createdAt AND un.id < :id)) " +
+                     "ORDER BY un.createdAt DESC, un.id DESC")
+       List<InboxNotificationRow> findPageByUserId(@Param("userId") Long userId,
+                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+       /**
+        * 사용자의 카테고리별 알림 페이지 조회 (커서 이후, 최신순)
+        */
+       @Query(INBOX_ROW +
+                     "WHERE un.userId = :userId AND un.isDeleted = false AND t.category.id = :categoryId " +
+                     "AND (un.createdAt < :createdAt OR (un.createdAt = :createdAt AND un.id < :id)) " +
+                     "ORDER BY un.createdAt DESC, un.id DESC")
+       List<InboxNotificationRow> findPageByUserIdAndCategoryId(@Param("userId") Long userId,
+                     @Param("categoryId") Long categoryId,
+                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+       /**
+        * 사용자의 커스텀 알림(템플릿 없음) 페이지 조회 (커서 이후, 최신순)
+        */
+       @Query(INBOX_ROW +
+                     "WHERE un.userId = :userId AND un.isDeleted = false AND un.template IS NULL " +
+                     "AND (un.createdAt < :createdAt OR (un.createdAt = :createdAt AND un.id < :id)) " +
+                     "ORDER BY un.createdAt DESC, un.id DESC")
+       List<InboxNotificationRow> findCustomPageByUserId(@Param("userId") Long userId,
+                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+       /**
+        * 사용자 알림의 생성 시각 조회 (변경 동기화 기준 위치)
+        */
+       @Query("SELECT un.createdAt FROM UserNotification un WHERE un.id = :id AND un.userId = :userId")
+       Optional<LocalDateTime> findCreatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+       /**
+        * 기준 위치 이후에 생성된 사용자 알림 조회 (오래된 순)
+        *
+        * @param settledAt 이 시각 이후에 생성된 알림은 아직 커밋되지 않았을 수 있으므로 다음 조회로 미룸
+        */
+       @Query(INBOX_ROW +
+                     "WHERE un.userId = :userId AND un.isDeleted = false AND un.createdAt <= :settledAt " +
+                     "AND (un.createdAt > :createdAt OR (un.createdAt = :createdAt AND un.id > :id)) " +
+                     "ORDER BY un.createdAt ASC, un.id ASC")
+       List<InboxNotificationRow> findCreatedAfter(@Param("userId") Long userId,
+                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                     @Param("settledAt") LocalDateTime settledAt, Limit limit);
+
+       /**
+        * 기준 위치 이후에 읽음/삭제 처리된 사용자 알림 상태 조회 (오래된 순)
+        *
+        * @param settledAt 이 시각 이후의 변경은 아직 커밋되지 않았을 수 있으므로 다음 조회로 미룸
+        */
+       @Query("SELECT new com.homesweet.notification.dto.NotificationStateChangeDTO(" +
+                     "un.id, un.isRead, un.isDeleted, un.updatedAt) FROM UserNotification un " +
+                     "WHERE un.userId = :userId AND un.updatedAt <= :settledAt " +
+                     "AND (un.updatedAt > :updatedAt OR (un.updatedAt = :updatedAt AND un.id > :id)) " +
+                     "ORDER BY un.updatedAt ASC, un.id ASC")
+       List<NotificationStateChangeDTO> findStateChangesAfter(@Param("userId") Long userId,
+                     @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                     @Param("settledAt") LocalDateTime settledAt, Limit limit);
+
        /**
         * 사용자의 읽지 않은 알림 개수 조회
         */
        long countByUserIdAndIsReadFalseAndIsDeletedFalse(Long userId);
 
+       /**
+        * 읽음 기준 시각 이후의 읽지 않은 알림 개수 조회 (읽지 않은 알림 카운터 적재/점검용)
+        *
+        * @param readUntil 읽음 기준 시각 (없으면 null)
+        */
+       @Query("SELECT COUNT(un) FROM UserNotification un " +
+                     "WHERE un.userId = :userId AND un.isRead = false AND un.isDeleted = false " +
+                     "AND (:readUntil IS NULL OR un.createdAt > :readUntil)")
+       long countUnreadByUserId(@Param("userId") Long userId, @Param("readUntil") LocalDateTime readUntil);
+
        /**
         * 사용자의 모든 읽지 않은 알림 조회
         */
@@ -49,4 +149,68 @@ public interface UserNotificationRepository extends JpaRepository<UserNotificati
        @Query("SELECT un FROM UserNotification un WHERE un.id IN :notificationIds AND un.user.id = :userId AND un.isDeleted = false")
        List<UserNotification> findByIdInAndUserIdAndNotDeleted(@Param("notificationIds") List<Long> notificationIds,
                      @Param("userId") Long userId);
+
+       /**
+        * 주어진 알림 중 읽음 기준 시각 이후의 읽지 않은 알림을 읽음 처리 (읽음 시 카운터 감소량)
+        *
+        * 읽지 않은 행만 바꾸므로, 같은 알림을 동시에 읽음 처리해도 한 요청에서만 집계됩니다.
+        *
+        * @param readUntil 읽음 기준 시각 (없으면 null)
+        * @return 읽음 처리된 행 수
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE UserNotification un SET un.isRead = true, un.updatedAt = LOCAL DATETIME " +
+                     "WHERE un.userId = :userId AND un.id IN :notificationIds " +
+                     "AND un.isRead = false AND un.isDeleted = false " +
+                     "AND (:readUntil IS NULL OR un.createdAt > :readUntil)")
+       int markUnreadAsReadByIdInAndUserId(@Param("notificationIds") Collection<Long> notificationIds,
+                     @Param("userId") Long userId, @Param("readUntil") LocalDateTime readUntil);
+
+       /**
+        * 주어진 알림 중 읽음 기준 시각 이후의 읽지 않은 알림을 삭제 및 읽음 처리 (삭제 시 카운터 감소량)
+        *
+        * @param readUntil 읽음 기준 시각 (없으면 null)
+        * @return 삭제 처리된 행 수
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE UserNotification un SET un.isDeleted = true, un.isRead = true, un.updatedAt = LOCAL DATETIME " +
+                     "WHERE un.userId = :userId AND un.id IN :notificationIds " +
+                     "AND un.isRead = false AND un.isDeleted = false " +
+                     "AND (:readUntil IS NULL OR un.createdAt > :readUntil)")
+       int markUnreadAsDeletedByIdInAndUserId(@Param("notificationIds") Collection<Long> notificationIds,
+                     @Param("userId") Long userId, @Param("readUntil") LocalDateTime readUntil);
+
+       /**
+        * 사용자의 삭제되지 않은 알림을 한 번의 UPDATE로 읽음 처리
+        *
+        * @return 조건에 맞는 행 수 (MySQL은 useAffectedRows=false 기본값에서 이미 읽은 행도 포함)
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE UserNotification un SET un.isRead = true, un.updatedAt = LOCAL DATETIME " +
+                     "WHERE un.userId = :userId AND un.id IN :notificationIds AND un.isDeleted = false")
+       int markAsReadByIdInAndUserId(@Param("notificationIds") Collection<Long> notificationIds,
+                     @Param("userId") Long userId);
+
+       /**
+        * 사용자의 삭제되지 않은 알림을 한 번의 UPDATE로 삭제 및 읽음 처리
+        *
+        * @return 조건에 맞는 행 수
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE UserNotification un SET un.isDeleted = true, un.isRead = true, un.updatedAt = LOCAL DATETIME " +
+                     "WHERE un.userId = :userId AND un.id IN :notificationIds AND un.isDeleted = false")
+       int markAsDeletedByIdInAndUserId(@Param("notificationIds") Collection<Long> notificationIds,
+                     @Param("userId") Long userId);
+
+       /**
+        * 읽음 기준 시각 이전에 생성된 읽지 않은 알림을 읽음 처리 (모두 읽음의 백그라운드 반영)
+        *
+        * @return 읽음 처리된 행 수
+        */
+       @Modifying
+       @Query("UPDATE UserNotification un SET un.isRead = true " +
+                     "WHERE un.userId = :userId AND un.isRead = false AND un.isDeleted = false " +
+                     "AND un.createdAt <= :readUntil")
+       int markAsReadByUserIdAndCreatedAtUpTo(@Param("userId") Long userId,
+                     @Param("readUntil") LocalDateTime readUntil);
 }
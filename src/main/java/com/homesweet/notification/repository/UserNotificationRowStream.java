@@ -0,0 +1,87 @@
+package com.homesweet.notification.repository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 알림 행을 요청 시점에 생성하는 입력 스트림
+ *
+ * 행마다 달라지는 부분(알림 ID, 사용자 ID)만 새로 만들고,
+ * 공유되는 나머지 컬럼(템플릿, contextData, 상태, 생성 시각)은 한 번 인코딩한 바이트를 반복해서 내보냅니다.
+ *
+ * @author dogyungkim
+ */
+class UserNotificationRowStream extends InputStream {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final long[] ids;
+    private final List<Long> userIds;
+    private final byte[] sharedColumns;
+
+    private int row;
+    private byte[] segment;
+    private int position;
+    private boolean rowColumnsNext = true;
+
+    UserNotificationRowStream(long[] ids, List<Long> userIds, Long templateId, String contextJson,
+            LocalDateTime createdAt) {
+        if (ids.length != userIds.size()) {
+            throw new IllegalArgumentException("ID 수와 수신자 수가 다릅니다.");
+        }
+        this.ids = ids;
+        this.userIds = userIds;
+        this.sharedColumns = ("\t" + (templateId != null ? templateId : "NULL")
+                + "\t" + contextJson
+                + "\t0\t0\t" + CREATED_AT_FORMAT.format(createdAt) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return segment[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int written = 0;
+        while (written < length && fill()) {
+            int count = Math.min(length - written, segment.length - position);
+            System.arraycopy(segment, position, buffer, offset + written, count);
+            position += count;
+            written += count;
+        }
+        return written == 0 ? -1 : written;
+    }
+
+    /**
+     * 현재 구간을 다 읽었으면 다음 구간(행 고유 컬럼 → 공유 컬럼 순)을 준비합니다.
+     *
+     * @return 더 읽을 데이터가 있으면 true
+     */
+    private boolean fill() {
+        while (segment == null || position >= segment.length) {
+            if (rowColumnsNext) {
+                if (row >= ids.length) {
+                    return false;
+                }
+                segment = (ids[row] + "\t" + userIds.get(row)).getBytes(StandardCharsets.US_ASCII);
+                row++;
+            } else {
+                segment = sharedColumns;
+            }
+            rowColumnsNext = !rowColumnsNext;
+            position = 0;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,56 @@
+package com.homesweet.notification.repository.impl;
+
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 테스트 전용 적재기
+ *
+ * H2는 스트림 적재를 지원하지 않으므로 행 스트림을 임시 파일에 쓴 뒤 CSVREAD로 읽어 INSERT 합니다.
+ */
+@Repository
+@Profile("test")
+public class H2UserNotificationBulkLoader extends UserNotificationBulkLoader {
+
+    private static final String CSV_OPTIONS = "charset=UTF-8 fieldSeparator=\t fieldDelimiter= null=NULL";
+
+    public H2UserNotificationBulkLoader(JdbcTemplate jdbcTemplate, UserNotificationIdAllocator idAllocator) {
+        super(jdbcTemplate, idAllocator);
+    }
+
+    @Override
+    protected long loadRows(InputStream rows) throws IOException {
+        Path file = Files.createTempFile("user_notification", ".tsv");
+        try {
+            Files.copy(rows, file, StandardCopyOption.REPLACE_EXISTING);
+            return jdbcTemplate.update(buildInsertSql(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * CSVREAD 인자는 준비 시점에 파일을 읽어야 하므로 바인딩 대신 리터럴로 지정
+     */
+    private String buildInsertSql(Path file) {
+        return "INSERT INTO user_notification (" + String.join(", ", COLUMNS) + ") "
+                + "SELECT CAST(user_notification_id AS BIGINT), CAST(user_id AS BIGINT), "
+                + "CAST(notification_template_id AS BIGINT), context_data FORMAT JSON, "
+                + "CAST(is_read AS BOOLEAN), CAST(is_deleted AS BOOLEAN), CAST(created_at AS TIMESTAMP) "
+                + "FROM CSVREAD(" + literal(file.toAbsolutePath().toString()) + ", "
+                + literal(String.join("\t", COLUMNS)) + ", " + literal(CSV_OPTIONS) + ")";
+    }
+
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
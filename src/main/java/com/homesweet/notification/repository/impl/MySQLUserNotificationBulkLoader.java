@@ -0,0 +1,61 @@
+package com.homesweet.notification.repository.impl;
+
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Repository;
+
+import java.io.InputStream;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * MySQL LOAD DATA LOCAL INFILE 적재기
+ *
+ * 파일 대신 행 스트림을 드라이버에 넘겨 적재합니다. 서버의 local_infile=ON 설정이 필요합니다.
+ *
+ * allowLoadLocalInfile=true인 연결은 서버가 요청하는 임의의 클라이언트 파일을 전송할 수 있으므로,
+ * 커넥션 풀에는 설정하지 않고 적재할 때마다 이 설정을 가진 별도 연결을 열어 사용합니다. (적재 후 바로 닫음)
+ * 이 연결은 풀의 트랜잭션에 참여하지 않으며, LOAD DATA 문이 끝나면 자동 커밋됩니다.
+ * (문이 실패하면 저장된 행이 없으며, LOCAL 적재는 IGNORE처럼 동작하여 외래 키 위반 행은 경고와 함께 건너뜀)
+ */
+@Repository
+@Profile("!test")
+public class MySQLUserNotificationBulkLoader extends UserNotificationBulkLoader {
+
+    private static final String LOAD_SQL = "LOAD DATA LOCAL INFILE 'user_notification.tsv' "
+            + "INTO TABLE user_notification CHARACTER SET utf8mb4 "
+            + "FIELDS TERMINATED BY '\\t' ESCAPED BY '' "
+            + "LINES TERMINATED BY '\\n' "
+            + "(" + String.join(", ", COLUMNS) + ")";
+
+    private final JdbcTemplate loadJdbcTemplate;
+
+    public MySQLUserNotificationBulkLoader(JdbcTemplate jdbcTemplate, UserNotificationIdAllocator idAllocator,
+            DataSourceProperties dataSourceProperties) {
+        super(jdbcTemplate, idAllocator);
+        DriverManagerDataSource loadDataSource = new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("allowLoadLocalInfile", "true");
+        loadDataSource.setConnectionProperties(connectionProperties);
+        this.loadJdbcTemplate = new JdbcTemplate(loadDataSource);
+    }
+
+    @Override
+    protected long loadRows(InputStream rows) {
+        Long loaded = loadJdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // 지정한 스트림이 있으면 드라이버는 파일명 대신 스트림을 전송
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(rows);
+                return statement.executeLargeUpdate(LOAD_SQL);
+            }
+        });
+        return loaded != null ? loaded : 0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.homesweet.notification.repository.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
 import com.homesweet.notification.repository.UserNotificationJdbcRepository;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -10,8 +11,9 @@ import org.springframework.stereotype.Repository;
 @Profile("!test")
 public class MySQLUserNotificationJdbcRepository extends UserNotificationJdbcRepository {
 
-    public MySQLUserNotificationJdbcRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
-        super(jdbcTemplate, objectMapper);
+    public MySQLUserNotificationJdbcRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            UserNotificationIdAllocator idAllocator) {
+        super(jdbcTemplate, objectMapper, idAllocator);
     }
 
     @Override
@@ -1,8 +1,6 @@
 package com.homesweet.notification.service;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.springframework.kafka.annotation.KafkaListener;
 
@@ -27,10 +25,14 @@ public class NotificationKafkaConsumer {
 
   private final NotificationProcessor notificationProcessor;
 
+  /**
+   * 배치 단위로 수신한 메시지를 처리합니다.
+   * 
+   * 단일 사용자 알림은 배치 안에서 모아서 한 번에 저장/전송합니다.
+   * 처리가 모두 끝난 뒤 리스너가 반환되므로 Kafka commit 시점은 기존과 같습니다.
+   */
   @KafkaListener(topics = "notification", groupId = "notification-group", batch = "true")
   public void listenBulk(List<TemplateNotificationEvent> messages) {
-    messages.forEach(msg -> {
-      notificationProcessor.processTemplateNotification(msg);
-    });
+    notificationProcessor.processTemplateNotifications(messages);
   }
 }
@@ -0,0 +1,271 @@
+package com.homesweet.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.dto.BroadcastMessage;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 푸시 메시지 바이너리 형식 (v1)
+ *
+ * JSON 대신 필드 이름 없이 정해진 순서로 값만 기록하여 메시지 크기와 직렬화 비용을 줄입니다.
+ * 게이트웨이도 같은 형식으로 해석해야 하므로 형식을 바꿀 때는 VERSION을 올리고 이전 버전 해석을 유지해야 합니다.
+ *
+ * <pre>
+ * [버전 1바이트][종류 1바이트][수신 대상][알림]
+ *   종류    1 = 개인 알림 (수신 대상: userId varint), 2 = 전체 발송 (수신 대상: audience 이름 문자열)
+ *   알림    [필드 비트 1바이트] 이후 비트가 켜진 필드만 아래 순서로 기록
+ *           notificationId(varint), title, content, redirectUrl, contextData(JSON 문자열),
+ *           카테고리 ID(1바이트), createdAt(epoch millis varint)
+ *   문자열  [UTF-8 바이트 길이 varint][UTF-8 바이트]
+ * </pre>
+ *
+ * createdAt은 서버 시간대(ZoneId.systemDefault()) 기준 epoch millis로 기록합니다. (타임라인 캐시 score와 같은 기준)
+ * 발행/구독 서버의 시간대가 같으면 해석 결과는 같은 LocalDateTime(밀리초 이하 절삭)이 됩니다.
+ * 첫 바이트가 JSON의 '{'와 겹치지 않으므로, 게이트웨이는 전환 기간 동안 두 형식을 모두 받을 수 있습니다.
+ *
+ * @author dogyungkim
+ */
+public final class NotificationMessageCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte KIND_USER = 1;
+    private static final byte KIND_BROADCAST = 2;
+
+    private static final int READ = 1;
+    private static final int NOTIFICATION_ID = 1 << 1;
+    private static final int TITLE = 1 << 2;
+    private static final int CONTENT = 1 << 3;
+    private static final int REDIRECT_URL = 1 << 4;
+    private static final int CONTEXT_DATA = 1 << 5;
+    private static final int CATEGORY = 1 << 6;
+    private static final int CREATED_AT = 1 << 7;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private NotificationMessageCodec() {
+    }
+
+    /**
+     * 개인 알림 또는 전체 발송 메시지를 인코딩합니다.
+     *
+     * @param message NotificationMessage 또는 BroadcastMessage
+     * @throws IllegalArgumentException 지원하지 않는 메시지이거나 알림 데이터가 없는 경우
+     */
+    public static byte[] encode(Object message) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION);
+        if (message instanceof NotificationMessage userMessage) {
+            writer.writeByte(KIND_USER);
+            writer.writeVarLong(userMessage.getUserId());
+            writeNotification(writer, userMessage.getData());
+        } else if (message instanceof BroadcastMessage broadcastMessage) {
+            writer.writeByte(KIND_BROADCAST);
+            writer.writeString(broadcastMessage.getAudience().name());
+            writeNotification(writer, broadcastMessage.getData());
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 푸시 메시지입니다: " + message);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * 인코딩된 메시지를 해석합니다.
+     *
+     * @return NotificationMessage 또는 BroadcastMessage
+     * @throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못된 경우
+     */
+    public static Object decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        try {
+            byte version = reader.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 푸시 메시지 버전입니다: " + version);
+            }
+            byte kind = reader.readByte();
+            return switch (kind) {
+                case KIND_USER -> new NotificationMessage(reader.readVarLong(), readNotification(reader));
+                case KIND_BROADCAST -> new BroadcastMessage(BroadcastAudience.valueOf(reader.readString()),
+                        readNotification(reader));
+                default -> throw new IllegalArgumentException("알 수 없는 푸시 메시지 종류입니다: " + kind);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("푸시 메시지가 잘렸습니다.", e);
+        }
+    }
+
+    private static void writeNotification(Writer writer, PushNotificationDTO notification) {
+        if (notification == null) {
+            throw new IllegalArgumentException("푸시 메시지에 알림 데이터가 없습니다.");
+        }
+        String contextData = notification.getContextData() != null
+                ? SerializedContextData.of(notification.getContextData()).json()
+                : null;
+
+        int fields = (notification.isRead() ? READ : 0)
+                | (notification.getNotificationId() != null ? NOTIFICATION_ID : 0)
+                | (notification.getTitle() != null ? TITLE : 0)
+                | (notification.getContent() != null ? CONTENT : 0)
+                | (notification.getRedirectUrl() != null ? REDIRECT_URL : 0)
+                | (contextData != null ? CONTEXT_DATA : 0)
+                | (notification.getCategoryType() != null ? CATEGORY : 0)
+                | (notification.getCreatedAt() != null ? CREATED_AT : 0);
+        writer.writeByte(fields);
+
+        if ((fields & NOTIFICATION_ID) != 0) {
+            writer.writeVarLong(notification.getNotificationId());
+        }
+        if ((fields & TITLE) != 0) {
+            writer.writeString(notification.getTitle());
+        }
+        if ((fields & CONTENT) != 0) {
+            writer.writeString(notification.getContent());
+        }
+        if ((fields & REDIRECT_URL) != 0) {
+            writer.writeString(notification.getRedirectUrl());
+        }
+        if ((fields & CONTEXT_DATA) != 0) {
+            writer.writeString(contextData);
+        }
+        if ((fields & CATEGORY) != 0) {
+            writer.writeByte(notification.getCategoryType().getCategoryId().intValue());
+        }
+        if ((fields & CREATED_AT) != 0) {
+            writer.writeVarLong(notification.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    private static PushNotificationDTO readNotification(Reader reader) {
+        int fields = reader.readByte() & 0xFF;
+        PushNotificationDTO.PushNotificationDTOBuilder builder = PushNotificationDTO.builder()
+                .isRead((fields & READ) != 0);
+
+        if ((fields & NOTIFICATION_ID) != 0) {
+            builder.notificationId(reader.readVarLong());
+        }
+        if ((fields & TITLE) != 0) {
+            builder.title(reader.readString());
+        }
+        if ((fields & CONTENT) != 0) {
+            builder.content(reader.readString());
+        }
+        if ((fields & REDIRECT_URL) != 0) {
+            builder.redirectUrl(reader.readString());
+        }
+        if ((fields & CONTEXT_DATA) != 0) {
+            builder.contextData(readContextData(reader.readString()));
+        }
+        if ((fields & CATEGORY) != 0) {
+            builder.categoryType(NotificationCategoryType.fromCategoryId((long) (reader.readByte() & 0xFF)));
+        }
+        if ((fields & CREATED_AT) != 0) {
+            builder.createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readVarLong()), ZoneId.systemDefault()));
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> readContextData(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("contextData 해석에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 크기가 늘어나는 바이트 버퍼 (동기화 없음)
+     */
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * 7비트씩 나누어 기록 (작은 양수일수록 짧음)
+         */
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint입니다.");
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("잘못된 문자열 길이입니다: " + length);
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
@@ -1,28 +1,99 @@
 package com.homesweet.notification.service;
 
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.dto.BroadcastMessage;
 import com.homesweet.notification.dto.NotificationMessage;
 import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.service.impl.PushCircuitBreaker;
+import com.homesweet.notification.service.impl.PushPresenceRegistry;
+import com.homesweet.notification.service.impl.PushSpilloverQueue;
+import com.homesweet.notification.service.impl.PushSpilloverQueue.Frame;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * 알림 발행기 (Redis)
+ * 
+ * - PUBSUB: 샤드 채널(notification:push:{shard})로 발행. 구독 중이 아닌 게이트웨이는 메시지를 받지 못함
+ * - STREAM: 샤드 스트림(notification:stream:{shard})에 추가. 게이트웨이는 컨슈머 그룹으로 읽고 ACK 하며,
+ *   재시작 후에도 마지막으로 처리한 위치부터 이어서 읽을 수 있음 (스트림 길이는 max-length 근처로 제한)
+ * 
+ * 메시지 형식은 두 모드가 같으며, 스트림에서는 레코드의 payload 필드에 담깁니다.
+ * 
+ * 메시지 형식(format)
+ * - JSON: redisObjectTemplate의 JSON 직렬화
+ * - BINARY: NotificationMessageCodec의 바이너리 형식 (게이트웨이가 먼저 지원해야 함)
+ * 
+ * Redis 발행이 실패하거나 시간 초과되면 인코딩된 메시지를 로컬 대기열(PushSpilloverQueue)에 보관하고,
+ * 주기적으로 오래된 것부터 다시 발행합니다. 연속으로 실패하면 서킷 브레이커가 일정 시간 Redis 발행을 멈추고 바로 보관합니다.
+ * 다시 발행되는 메시지는 그 사이의 새 메시지보다 늦게 도착할 수 있습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationPublisher {
 
+    public enum Mode {
+        PUBSUB,
+        STREAM
+    }
+
+    public enum Format {
+        JSON,
+        BINARY
+    }
+
     private final RedisTemplate<String, Object> redisTemplate;
-    private static final String TOPIC = "notification:push";
+    private final PushPresenceRegistry presenceRegistry;
+    private final PushCircuitBreaker circuitBreaker;
+    private final PushSpilloverQueue spilloverQueue;
+    private final MeterRegistry meterRegistry;
+    private static final String TOPIC_PREFIX = "notification:push:";
+    private static final String BROADCAST_TOPIC = "notification:broadcast";
+    private static final String STREAM_PREFIX = "notification:stream:";
+    private static final String BROADCAST_STREAM = "notification:stream:broadcast";
+    private static final byte[] PAYLOAD_FIELD = "payload".getBytes(StandardCharsets.UTF_8);
+    private static final int DRAIN_BATCH_SIZE = 1000;
+
+    @Value("${notification.push.mode:PUBSUB}")
+    private Mode mode;
+
+    @Value("${notification.push.format:JSON}")
+    private Format format;
+
+    /** 스트림당 유지할 대략적인 최대 메시지 수 (XADD MAXLEN ~) */
+    @Value("${notification.push.stream.max-length:100000}")
+    private long streamMaxLength;
+
+    /**
+     * 개인 알림 채널 샤드 수
+     * 
+     * 게이트웨이는 자신이 연결을 가진 사용자의 샤드 채널만 구독하므로, 게이트웨이와 같은 값을 사용해야 합니다.
+     */
+    @Value("${notification.push.shard-count:16}")
+    private int shardCount;
 
     public void publish(Long userId, PushNotificationDTO notification) {
         NotificationMessage message = new NotificationMessage(userId, notification);
-        redisTemplate.convertAndSend(TOPIC, message);
+        sendOrSpill(List.of(new Frame(serializeKey(prefix() + shardOf(userId, shardCount)), encode(message))));
         log.debug("Notification published to Redis: userId={}", userId);
     }
     
@@ -31,21 +102,175 @@ public class NotificationPublisher {
             return;
         }
 
-        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-            RedisSerializer<String> stringSerializer = redisTemplate.getStringSerializer();
-            @SuppressWarnings("unchecked")
-            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        List<NotificationMessage> messages = new ArrayList<>(notifications.size());
+        notifications.forEach((userId, notification) -> messages.add(new NotificationMessage(userId, notification)));
+        publishAll(messages);
+    }
+
+    /**
+     * 여러 메시지를 하나의 Redis 파이프라인으로 발행합니다.
+     * 
+     * 메시지는 수신자의 샤드 채널별로 묶어 발행하며, 같은 사용자에게 가는 메시지가 여러 개여도 모두 발행됩니다.
+     * PUBSUB 모드에서는 푸시 연결이 없는 사용자의 메시지를 발행하지 않습니다. (notification.presence.enabled)
+     * STREAM 모드는 게이트웨이가 재연결 후 이어서 읽을 수 있으므로 연결 상태와 관계없이 모두 추가합니다.
+     */
+    public void publishAll(List<NotificationMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+
+        Set<Long> offline = mode == Mode.PUBSUB
+                ? presenceRegistry.offline(messages.stream().map(NotificationMessage::getUserId).toList())
+                : Set.of();
+        Map<Integer, List<NotificationMessage>> byShard = new HashMap<>();
+        int skipped = 0;
+        for (NotificationMessage message : messages) {
+            if (offline.contains(message.getUserId())) {
+                skipped++;
+                continue;
+            }
+            byShard.computeIfAbsent(shardOf(message.getUserId(), shardCount), shard -> new ArrayList<>())
+                    .add(message);
+        }
+
+        int published = messages.size() - skipped;
+        meterRegistry.counter("notification.push.published").increment(published);
+        meterRegistry.counter("notification.push.skipped", "reason", "offline").increment(skipped);
+        if (published == 0) {
+            log.debug("Bulk notification skipped, no recipient online: count={}", messages.size());
+            return;
+        }
+
+        List<Frame> frames = new ArrayList<>(published);
+        byShard.forEach((shard, shardMessages) -> {
+            byte[] destination = serializeKey(prefix() + shard);
+            for (NotificationMessage message : shardMessages) {
+                frames.add(new Frame(destination, encode(message)));
+            }
+        });
+        sendOrSpill(frames);
+
+        log.debug("Bulk notification published to Redis: published={}, skipped={}, shards={}",
+                published, skipped, byShard.size());
+    }
 
-            byte[] channel = stringSerializer.serialize(TOPIC);
+    /**
+     * 사용자 ID의 채널 샤드
+     * 
+     * 연속된 사용자 ID가 샤드에 고르게 나뉘도록 MurmurHash3의 64비트 finalizer(fmix64)로 섞은 뒤 샤드 수로 나눈 나머지를 사용합니다.
+     * 게이트웨이도 같은 계산으로 구독할 샤드를 정하므로 변경하면 안 됩니다.
+     * 
+     * @param userId     사용자 ID
+     * @param shardCount 샤드 수
+     * @return 0 이상 shardCount 미만의 샤드 번호
+     */
+    public static int shardOf(long userId, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("notification.push.shard-count는 0보다 커야 합니다.");
+        }
+        long hash = userId;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) shardCount);
+    }
+
+    /**
+     * 전체 발송 알림을 한 번만 발행합니다.
+     * 
+     * 구독 측에서 대상 조건에 맞는 연결된 사용자에게 전달합니다.
+     */
+    public void publishBroadcast(BroadcastAudience audience, PushNotificationDTO notification) {
+        BroadcastMessage message = new BroadcastMessage(audience, notification);
+        String destination = mode == Mode.STREAM ? BROADCAST_STREAM : BROADCAST_TOPIC;
+        sendOrSpill(List.of(new Frame(serializeKey(destination), encode(message))));
+        log.debug("Broadcast notification published to Redis: audience={}", audience);
+    }
+
+    /**
+     * 로컬 대기열에 보관된 메시지를 오래된 것부터 다시 발행합니다.
+     * 
+     * 서킷이 차단되어 있거나 다시 발행에 실패하면 다음 주기에 이어서 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.push.spillover.drain-interval-ms:1000}")
+    public void drainSpillover() {
+        while (spilloverQueue.hasPending()) {
+            PushSpilloverQueue.Batch batch = spilloverQueue.peek(DRAIN_BATCH_SIZE);
+            if (batch.isEmpty() || !circuitBreaker.allowRequest()) {
+                return;
+            }
+            try {
+                sendPipelined(batch.frames());
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure();
+                log.warn("보관된 푸시 다시 발행 실패: count={}, pending={}, error={}",
+                        batch.frames().size(), spilloverQueue.pendingMessages(), e.getMessage());
+                return;
+            }
+            circuitBreaker.recordSuccess();
+            spilloverQueue.commit(batch);
+            log.info("보관된 푸시 다시 발행: count={}, pending={}", batch.frames().size(), spilloverQueue.pendingMessages());
+        }
+    }
+
+    /**
+     * Redis로 발행하고, 서킷이 차단되어 있거나 발행에 실패하면 로컬 대기열에 보관합니다.
+     */
+    private void sendOrSpill(List<Frame> frames) {
+        if (!circuitBreaker.allowRequest()) {
+            spilloverQueue.append(frames);
+            return;
+        }
+        try {
+            sendPipelined(frames);
+            circuitBreaker.recordSuccess();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            log.warn("Redis 발행 실패, 로컬 대기열에 보관: count={}, error={}", frames.size(), e.getMessage());
+            spilloverQueue.append(frames);
+        }
+    }
 
-            notifications.forEach((userId, notification) -> {
-                NotificationMessage message = new NotificationMessage(userId, notification);
-                byte[] payload = valueSerializer.serialize(message);
-                connection.publish(channel, payload);
-            });
+    private void sendPipelined(List<Frame> frames) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Frame frame : frames) {
+                send(connection, frame.destination(), frame.payload());
+            }
             return null;
         });
+    }
+
+    /**
+     * 모드에 따라 채널로 발행하거나 스트림에 추가합니다.
+     */
+    private void send(RedisConnection connection, byte[] destination, byte[] payload) {
+        if (mode == Mode.STREAM) {
+            connection.streamCommands().xAdd(
+                    StreamRecords.rawBytes(Map.of(PAYLOAD_FIELD, payload)).withStreamKey(destination),
+                    XAddOptions.maxlen(streamMaxLength).approximateTrimming(true));
+        } else {
+            connection.publish(destination, payload);
+        }
+    }
 
-        log.debug("Bulk notification published to Redis: count={}", notifications.size());
+    private String prefix() {
+        return mode == Mode.STREAM ? STREAM_PREFIX : TOPIC_PREFIX;
+    }
+
+    private byte[] serializeKey(String key) {
+        return redisTemplate.getStringSerializer().serialize(key);
+    }
+
+    /**
+     * 메시지 형식에 따라 직렬화합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] encode(Object message) {
+        if (format == Format.BINARY) {
+            return NotificationMessageCodec.encode(message);
+        }
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(message);
     }
 }
@@ -0,0 +1,42 @@
+package com.homesweet.notification.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ *
+ * Redis에 유지하는 파생 데이터(카운터, 타임라인 캐시)가 롤백된 변경을 반영하지 않도록 커밋 이후에 갱신합니다.
+ * 트랜잭션 밖에서 호출하면 바로 실행하며, 실패는 로그만 남기고 호출한 쪽의 처리에 영향을 주지 않습니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(String description, Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("{} 반영 실패: error={}", description, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+            return;
+        }
+        safeAction.run();
+    }
+}
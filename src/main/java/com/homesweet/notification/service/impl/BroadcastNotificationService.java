@@ -0,0 +1,287 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.auth.repository.UserRepository;
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.NotificationCursor;
+import com.homesweet.notification.domain.template.CompiledTemplate;
+import com.homesweet.notification.dto.NotificationStateChangeDTO;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.entity.BroadcastNotification;
+import com.homesweet.notification.entity.BroadcastNotificationState;
+import com.homesweet.notification.entity.NotificationTemplate;
+import com.homesweet.notification.repository.BroadcastNotificationRepository;
+import com.homesweet.notification.repository.BroadcastNotificationStateRepository;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 전체 발송 알림 서비스 (fan-out on read)
+ *
+ * 전체 발송 알림은 한 건만 저장하고, 사용자의 읽음/삭제 상태는 사용자가 처리한 경우에만 기록합니다.
+ * 받은 알림함 조회 시 사용자의 역할에 맞는 전체 발송 알림 중 가입 이후에 발송된 것을 함께 조회합니다.
+ *
+ * @author dogyungkim
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BroadcastNotificationService {
+
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastNotificationStateRepository broadcastNotificationStateRepository;
+    private final UserRepository userRepository;
+    private final UserNotificationIdAllocator idAllocator;
+    private final InboxVersion inboxVersion;
+
+    /** 받은 알림함에 합치는 전체 발송 알림의 보관 기간 */
+    @Value("${notification.broadcast.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * 전체 발송 알림을 저장합니다.
+     *
+     * @param template    알림 템플릿
+     * @param contextData 알림 컨텍스트 데이터
+     * @param audience    발송 대상
+     * @return 저장된 전체 발송 알림
+     */
+    @Transactional
+    public BroadcastNotification saveBroadcast(
+            NotificationTemplate template,
+            Map<String, Object> contextData,
+            BroadcastAudience audience) {
+        BroadcastNotification broadcastNotification = BroadcastNotification.builder()
+                .id(idAllocator.nextId())
+                .template(template)
+                .contextData(contextData)
+                .audience(audience)
+                .build();
+        BroadcastNotification saved = broadcastNotificationRepository.save(broadcastNotification);
+        inboxVersion.bumpBroadcastAfterCommit();
+        return saved;
+    }
+
+    /**
+     * 사용자가 받은 전체 발송 알림 조회 (최대 20개, 최신순)
+     *
+     * @param userId    사용자 ID
+     * @param readUntil 읽음 기준 시각 (이전에 생성된 알림은 읽음으로 표시, 없으면 null)
+     * @return 알림 목록 (사용자가 삭제한 알림 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PushNotificationDTO> getInbox(Long userId, LocalDateTime readUntil) {
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findTop20VisibleTo(
+                userId,
+                audiencesOf(userId),
+                LocalDateTime.now().minusDays(retentionDays));
+        return toInbox(userId, broadcasts, readUntil);
+    }
+
+    /**
+     * 사용자가 받은 전체 발송 알림 페이지 조회 (커서 이후, 최신순)
+     *
+     * @param userId     사용자 ID
+     * @param categories 조회할 카테고리
+     * @param cursor     이전 페이지의 마지막 알림
+     * @param limit      최대 조회 개수
+     * @param readUntil  읽음 기준 시각 (없으면 null)
+     * @return 알림 목록 (사용자가 삭제한 알림 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PushNotificationDTO> getPage(Long userId, Collection<NotificationCategoryType> categories,
+            NotificationCursor cursor, int limit, LocalDateTime readUntil) {
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findPageVisibleTo(
+                userId,
+                audiencesOf(userId),
+                LocalDateTime.now().minusDays(retentionDays),
+                categories,
+                cursor.createdAt(),
+                cursor.id(),
+                Limit.of(limit));
+        return toInbox(userId, broadcasts, readUntil);
+    }
+
+    /**
+     * 사용자가 받는 전체 발송 알림의 생성 시각 조회
+     *
+     * @param userId         사용자 ID
+     * @param notificationId 알림 ID
+     * @return 생성 시각 (사용자가 받는 전체 발송 알림이 아니면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findCreatedAt(Long userId, Long notificationId) {
+        return broadcastNotificationRepository.findCreatedAtByIdAndAudienceIn(notificationId, audiencesOf(userId));
+    }
+
+    /**
+     * 기준 위치 이후에 생성된 전체 발송 알림 조회 (오래된 순)
+     *
+     * @param userId    사용자 ID
+     * @param position  마지막으로 받은 알림의 (생성 시각, ID)
+     * @param settledAt 조회할 최대 생성 시각
+     * @param limit     최대 조회 개수
+     * @param readUntil 읽음 기준 시각 (없으면 null)
+     * @return 알림 목록 (사용자가 삭제한 알림 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PushNotificationDTO> getCreatedAfter(Long userId, NotificationCursor position,
+            LocalDateTime settledAt, int limit, LocalDateTime readUntil) {
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findCreatedAfterVisibleTo(
+                userId,
+                audiencesOf(userId),
+                LocalDateTime.now().minusDays(retentionDays),
+                position.createdAt(),
+                position.id(),
+                settledAt,
+                Limit.of(limit));
+        return toInbox(userId, broadcasts, readUntil);
+    }
+
+    /**
+     * 사용자가 받은 전체 발송 알림 중 읽지 않은 알림 수
+     *
+     * @param userId    사용자 ID
+     * @param readUntil 읽음 기준 시각 (이전에 생성된 알림은 읽음으로 집계, 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId, LocalDateTime readUntil) {
+        return broadcastNotificationRepository.countUnreadVisibleTo(
+                userId,
+                audiencesOf(userId),
+                LocalDateTime.now().minusDays(retentionDays),
+                readUntil);
+    }
+
+    /**
+     * 기준 위치 이후의 전체 발송 알림 읽음/삭제 상태 변경 조회 (오래된 순)
+     *
+     * @param userId    사용자 ID
+     * @param position  마지막으로 받은 변경의 (변경 시각, 알림 ID)
+     * @param settledAt 조회할 최대 변경 시각
+     * @param limit     최대 조회 개수
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationStateChangeDTO> getStateChanges(Long userId, NotificationCursor position,
+            LocalDateTime settledAt, int limit) {
+        return broadcastNotificationStateRepository.findChangesAfter(userId, position.createdAt(), position.id(),
+                settledAt, Limit.of(limit));
+    }
+
+    /**
+     * 사용자의 읽음 상태를 반영해 알림 목록으로 변환합니다.
+     */
+    private List<PushNotificationDTO> toInbox(Long userId, List<BroadcastNotification> broadcasts,
+            LocalDateTime readUntil) {
+        if (broadcasts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BroadcastNotificationState> states = new HashMap<>();
+        broadcastNotificationStateRepository.findByUserIdAndBroadcastNotificationIdIn(userId,
+                broadcasts.stream().map(BroadcastNotification::getId).toList())
+                .forEach(state -> states.put(state.getBroadcastNotificationId(), state));
+
+        List<PushNotificationDTO> inbox = new ArrayList<>(broadcasts.size());
+        for (BroadcastNotification broadcast : broadcasts) {
+            BroadcastNotificationState state = states.get(broadcast.getId());
+            boolean isRead = (state != null && state.getIsRead())
+                    || NotificationAPIService.isCoveredByWatermark(broadcast.getCreatedAt(), readUntil);
+            inbox.add(toPushNotificationDTO(broadcast, isRead));
+        }
+        return inbox;
+    }
+
+    /**
+     * 전체 발송 알림 읽음 처리
+     *
+     * @param userId          사용자 ID
+     * @param notificationIds 알림 ID (전체 발송 알림이 아닌 ID는 무시)
+     * @return 처리한 전체 발송 알림 수
+     */
+    @Transactional
+    public int markAsRead(Long userId, Collection<Long> notificationIds) {
+        return updateStates(userId, notificationIds, BroadcastNotificationState::markAsRead);
+    }
+
+    /**
+     * 전체 발송 알림 삭제 처리 (읽음 처리 포함)
+     *
+     * @param userId          사용자 ID
+     * @param notificationIds 알림 ID (전체 발송 알림이 아닌 ID는 무시)
+     * @return 처리한 전체 발송 알림 수
+     */
+    @Transactional
+    public int markAsDeleted(Long userId, Collection<Long> notificationIds) {
+        return updateStates(userId, notificationIds, state -> {
+            state.markAsDeleted();
+            state.markAsRead();
+        });
+    }
+
+    /**
+     * 사용자가 받는 전체 발송 알림만 골라 상태 행을 생성/갱신합니다.
+     */
+    private int updateStates(Long userId, Collection<Long> notificationIds,
+            Consumer<BroadcastNotificationState> action) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> broadcastIds = broadcastNotificationRepository.findIdsByIdInAndAudienceIn(
+                notificationIds, audiencesOf(userId));
+        if (broadcastIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BroadcastNotificationState> states = new HashMap<>();
+        broadcastNotificationStateRepository.findByUserIdAndBroadcastNotificationIdIn(userId, broadcastIds)
+                .forEach(state -> states.put(state.getBroadcastNotificationId(), state));
+
+        List<BroadcastNotificationState> changed = new ArrayList<>(broadcastIds.size());
+        for (Long broadcastId : broadcastIds) {
+            BroadcastNotificationState state = states.computeIfAbsent(broadcastId,
+                    id -> new BroadcastNotificationState(userId, id));
+            action.accept(state);
+            changed.add(state);
+        }
+        broadcastNotificationStateRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    private List<BroadcastAudience> audiencesOf(Long userId) {
+        return BroadcastAudience.audiencesFor(userRepository.findRoleById(userId).orElse(null));
+    }
+
+    private PushNotificationDTO toPushNotificationDTO(BroadcastNotification broadcast, boolean isRead) {
+        NotificationTemplate template = broadcast.getTemplate();
+        Map<String, Object> contextData = broadcast.getContextData();
+
+        return PushNotificationDTO.builder()
+                .notificationId(broadcast.getId())
+                .title(CompiledTemplate.render(template.getTitle(), contextData))
+                .content(CompiledTemplate.render(template.getContent(), contextData))
+                .redirectUrl(CompiledTemplate.render(template.getRedirectUrl(), contextData))
+                .contextData(contextData)
+                .isRead(isRead)
+                .categoryType(template.getCategory().getCategoryType())
+                .createdAt(broadcast.getCreatedAt())
+                .build();
+    }
+}
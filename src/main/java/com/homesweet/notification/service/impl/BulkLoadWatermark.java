@@ -0,0 +1,114 @@
+package com.homesweet.notification.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 진행 중인 스트리밍 적재의 시작 시각 (Redis)
+ *
+ * 스트리밍 적재는 모든 행의 created_at을 적재 시작 시각으로 기록하지만, 행은 적재가 끝나 커밋된 뒤에야 보입니다.
+ * 적재가 변경 동기화의 settle 구간보다 오래 걸리면, 그 사이 동기화한 클라이언트의 since 위치가
+ * 아직 보이지 않는 행보다 뒤로 이동하여 해당 행을 영영 받지 못합니다.
+ *
+ * 적재 시작 시각을 모든 인스턴스가 공유하는 정렬 집합에 기록하고, 변경 동기화는 가장 오래된 진행 중 적재의
+ * 시작 시각 이전까지만 조회합니다. (적재가 끝날 때까지 모든 사용자의 새 알림 동기화가 미뤄지며, 실시간 알림은 SSE로 전달)
+ * 비정상 종료로 남은 기록은 max-in-flight-ms가 지나면 무시합니다.
+ * Redis를 사용할 수 없으면 기록/조회 없이 settle 구간만 적용합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkLoadWatermark {
+
+    private static final String KEY = "notification:bulk-load:in-flight";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 진행 중 기록을 유효하게 보는 최대 적재 시간 */
+    @Value("${notification.bulk-load.max-in-flight-ms:600000}")
+    private long maxInFlightMillis;
+
+    /**
+     * 적재를 진행 중으로 기록한 뒤 실행하고, 트랜잭션이 끝나면(커밋/롤백) 기록을 지웁니다.
+     *
+     * 적재 작업은 이 메서드 안에서 created_at을 정해야 합니다. (기록 시각 이후여야 함)
+     */
+    public <T> T track(Supplier<T> load) {
+        String member = register();
+        if (member == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                return load.get();
+            } finally {
+                release(member);
+            }
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(member);
+            }
+        });
+        return load.get();
+    }
+
+    /**
+     * 가장 오래된 진행 중 적재의 시작 시각
+     *
+     * @return 진행 중인 적재가 없거나 Redis를 사용할 수 없으면 null
+     */
+    public LocalDateTime oldestInFlight() {
+        try {
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            zSet.removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis() - maxInFlightMillis);
+            Set<ZSetOperations.TypedTuple<String>> oldest = zSet.rangeWithScores(KEY, 0, 0);
+            if (oldest == null || oldest.isEmpty()) {
+                return null;
+            }
+            Double startedAt = oldest.iterator().next().getScore();
+            return startedAt == null ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAt.longValue()), ZoneId.systemDefault());
+        } catch (RuntimeException e) {
+            log.warn("진행 중인 스트리밍 적재 조회 실패: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String register() {
+        String member = UUID.randomUUID().toString();
+        try {
+            stringRedisTemplate.opsForZSet().add(KEY, member, System.currentTimeMillis());
+            return member;
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 적재 시작 기록 실패, settle 구간만 적용: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(String member) {
+        if (member == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(KEY, member);
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 적재 종료 기록 실패 (max-in-flight-ms 이후 무시됨): error={}", e.getMessage());
+        }
+    }
+}
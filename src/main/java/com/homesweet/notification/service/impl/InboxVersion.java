@@ -0,0 +1,132 @@
+package com.homesweet.notification.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 사용자별 알림함 버전 (Redis)
+ *
+ * 알림함 내용이 바뀔 때마다(새 알림, 읽음, 삭제, 모두 읽음) 증가하는 버전으로, 알림 목록 조회의 ETag로 사용합니다.
+ * 버전 확인은 Redis만 조회하므로, 내용이 그대로이면 DB 조회와 직렬화 없이 304로 응답할 수 있습니다.
+ *
+ * 전체 발송 알림은 모든 사용자의 알림함을 바꾸므로 사용자 버전 대신 공용 버전을 증가시키고, ETag는 두 버전을 합쳐 만듭니다.
+ * 버전이 없으면 현재 시각(ms)으로 시작하므로, 키가 만료된 뒤 다시 만든 버전이 이전에 발급한 ETag와 겹치지 않습니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboxVersion {
+
+    private static final String KEY_PREFIX = "notification:inbox-version:";
+    private static final String BROADCAST_KEY = "notification:inbox-version:broadcast";
+    private static final int PIPELINE_SIZE = 1000;
+
+    /** 사용자 버전과 공용 버전 조회 (없으면 시작 값으로 생성) */
+    private static final RedisScript<List> CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            local versions = {}
+            for i, key in ipairs(KEYS) do
+              redis.call('SET', key, ARGV[1], 'NX')
+              versions[i] = redis.call('GET', key)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return versions
+            """, List.class);
+
+    /** 키가 있을 때만 증가 (없으면 다음 조회 때 새 시작 값으로 생성) */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 사용자 버전 유지 시간 (조회할 때마다 갱신) */
+    @Value("${notification.inbox-version.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 알림함 ETag 조회
+     *
+     * @param userId 사용자 ID
+     * @return ETag 값 (Redis를 사용할 수 없으면 null)
+     */
+    public String current(Long userId) {
+        try {
+            List<?> versions = stringRedisTemplate.execute(CURRENT_SCRIPT, List.of(key(userId), BROADCAST_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(ttlSeconds));
+            if (versions == null || versions.size() != 2) {
+                return null;
+            }
+            return versions.get(0) + "-" + versions.get(1);
+        } catch (RuntimeException e) {
+            log.warn("알림함 버전 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 전체 발송 알림 공용 버전 조회 (없으면 시작 값으로 생성)
+     *
+     * @return 새 전체 발송 알림이 저장될 때마다 바뀌는 값
+     */
+    public String broadcastVersion() {
+        stringRedisTemplate.opsForValue().setIfAbsent(BROADCAST_KEY, String.valueOf(System.currentTimeMillis()));
+        return stringRedisTemplate.opsForValue().get(BROADCAST_KEY);
+    }
+
+    /**
+     * 알림함 변경 후 버전 증가 (트랜잭션 커밋 이후 반영)
+     *
+     * @param userIds 알림함이 바뀐 사용자 ID
+     */
+    public void bumpAfterCommit(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(userIds));
+        AfterCommit.run("알림함 버전", () -> bump(distinct));
+    }
+
+    /**
+     * 전체 발송 알림 저장 후 공용 버전 증가 (트랜잭션 커밋 이후 반영)
+     */
+    public void bumpBroadcastAfterCommit() {
+        AfterCommit.run("알림함 공용 버전", () -> stringRedisTemplate.execute(BUMP_SCRIPT, List.of(BROADCAST_KEY)));
+    }
+
+    private void bump(List<Long> userIds) {
+        byte[] script = BUMP_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        for (int from = 0; from < userIds.size(); from += PIPELINE_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + PIPELINE_SIZE, userIds.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : chunk) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                            key(userId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
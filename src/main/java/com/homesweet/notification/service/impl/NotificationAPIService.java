@@ -1,15 +1,31 @@
 package com.homesweet.notification.service.impl;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.NotificationCursor;
+import com.homesweet.notification.domain.event.NotificationReadAllEvent;
+import com.homesweet.notification.dto.InboxNotificationRow;
+import com.homesweet.notification.dto.NotificationChangesDTO;
+import com.homesweet.notification.dto.NotificationPageDTO;
+import com.homesweet.notification.dto.NotificationStateChangeDTO;
 import com.homesweet.notification.dto.PushNotificationDTO;
-import com.homesweet.notification.entity.UserNotification;
 import com.homesweet.notification.exception.NotificationException;
+import com.homesweet.notification.repository.NotificationReadWatermarkRepository;
 import com.homesweet.notification.repository.UserNotificationRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,41 +35,279 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationAPIService {
+    private static final int INBOX_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
     private final UserNotificationRepository userNotificationRepository;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final NotificationReadWatermarkRepository readWatermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationTimelineCache timelineCache;
+    private final InboxVersion inboxVersion;
+    private final BulkLoadWatermark bulkLoadWatermark;
+
+    /** 변경 동기화에서 커밋 지연을 고려해 제외하는 최근 변경 구간 */
+    @Value("${notification.changes.settle-seconds:5}")
+    private long changesSettleSeconds;
 
     /**
      * 사용자의 알림 목록 조회 (최대 20개)
      * 
+     * 개인 알림(타임라인 캐시, 없으면 DB)과 전체 발송 알림을 각각 최신 20개씩 조회한 뒤 생성 시각 기준으로 합칩니다.
+     * 읽음 기준 시각 이전에 생성된 알림은 읽음으로 표시합니다.
+     * 
      * @param userId 사용자 ID
      * @return 알림 목록 (최대 20개)
      */
     @Transactional(readOnly = true)
     public List<PushNotificationDTO> getAllNotifications(Long userId) {
-        List<UserNotification> userNotifications = userNotificationRepository
-                .findTop20ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
-
-        // List<UserNotification>을 List<PushNotificationDTO>로 변환하고 최대 20개로 제한
-        return userNotifications.stream()
-                .limit(20)
-                .map(userNotification -> {
-                    var template = userNotification.getTemplate();
-                    return PushNotificationDTO.builder()
-                            .notificationId(userNotification.getId())
-                            .title(template.getTitle())
-                            .content(template.getContent())
-                            .redirectUrl(template.getRedirectUrl())
-                            .contextData(userNotification.getContextData())
-                            .isRead(userNotification.getIsRead())
-                            .categoryType(template.getCategory().getCategoryType())
-                            .createdAt(userNotification.getCreatedAt())
-                            .build();
-                })
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(userId, () -> userNotificationRepository
+                .findInboxByUserId(userId, Limit.of(INBOX_SIZE)).stream()
+                .map(InboxNotificationRow::toPushNotificationDTO)
+                .toList());
+
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+
+        // 최대 20개로 제한하고 읽음 기준 시각 적용
+        List<PushNotificationDTO> notifications = cached.stream()
+                .limit(INBOX_SIZE)
+                .map(notification -> applyWatermark(notification, readUntil))
                 .collect(Collectors.toList());
+
+        List<PushNotificationDTO> broadcasts = broadcastNotificationService.getInbox(userId, readUntil);
+        if (broadcasts.isEmpty()) {
+            return notifications;
+        }
+
+        List<PushNotificationDTO> merged = new ArrayList<>(notifications.size() + broadcasts.size());
+        merged.addAll(notifications);
+        merged.addAll(broadcasts);
+        merged.sort(Comparator.comparing(PushNotificationDTO::getCreatedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return merged.size() > INBOX_SIZE ? new ArrayList<>(merged.subList(0, INBOX_SIZE)) : merged;
+    }
+
+    /**
+     * 사용자의 알림 페이지 조회 (커서 기반, 최신순)
+     * 
+     * OFFSET 대신 이전 페이지의 마지막 알림 (생성 시각, ID) 이후부터 조회하므로 페이지 위치와 관계없이 비용이 같습니다.
+     * 개인 알림과 전체 발송 알림을 각각 size + 1개씩 조회해 합친 뒤 size개를 반환합니다.
+     * 
+     * @param userId   사용자 ID
+     * @param cursor   이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size     페이지 크기 (1 ~ 100)
+     * @param category 카테고리 (없으면 전체)
+     * @return 알림 페이지
+     * @throws NotificationException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageDTO getPage(Long userId, String cursor, int size, NotificationCategoryType category) {
+        NotificationCursor position = NotificationCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+
+        List<InboxNotificationRow> personal;
+        if (category == null) {
+            personal = userNotificationRepository.findPageByUserId(userId, position.createdAt(), position.id(), limit);
+        } else if (category == NotificationCategoryType.CUSTOM) {
+            personal = userNotificationRepository.findCustomPageByUserId(userId, position.createdAt(), position.id(), limit);
+        } else {
+            personal = userNotificationRepository.findPageByUserIdAndCategoryId(userId, category.getCategoryId(),
+                    position.createdAt(), position.id(), limit);
+        }
+
+        List<PushNotificationDTO> merged = new ArrayList<>(personal.size());
+        personal.forEach(row -> merged.add(applyWatermark(row.toPushNotificationDTO(), readUntil)));
+        // 전체 발송 알림은 항상 템플릿 알림이므로 커스텀 카테고리에는 없음
+        if (category != NotificationCategoryType.CUSTOM) {
+            merged.addAll(broadcastNotificationService.getPage(userId,
+                    category == null ? EnumSet.allOf(NotificationCategoryType.class) : EnumSet.of(category),
+                    position, pageSize + 1, readUntil));
+        }
+        merged.sort(Comparator.comparing(PushNotificationDTO::getCreatedAt)
+                .thenComparing(PushNotificationDTO::getNotificationId)
+                .reversed());
+
+        boolean hasNext = merged.size() > pageSize;
+        List<PushNotificationDTO> notifications = hasNext ? new ArrayList<>(merged.subList(0, pageSize)) : merged;
+        String nextCursor = null;
+        if (hasNext) {
+            PushNotificationDTO last = notifications.get(notifications.size() - 1);
+            nextCursor = new NotificationCursor(last.getCreatedAt(), last.getNotificationId()).encode();
+        }
+
+        return NotificationPageDTO.builder()
+                .notifications(notifications)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 재연결 시 놓친 알림 변경 조회 (변경 동기화)
+     * 
+     * since 알림 이후에 생성된 알림과, version 이후의 읽음/삭제 상태 변경을 각각 최대 size개씩 반환합니다.
+     * ID는 인스턴스별 블록으로 할당되어 생성 순서와 다를 수 있으므로, since 알림의 (생성 시각, ID) 위치 이후를 조회합니다.
+     * 최근 settle-seconds 이내의 변경은 아직 커밋되지 않은 트랜잭션이 있을 수 있어 다음 조회로 미룹니다. (실시간 변경은 SSE로 전달)
+     * 스트리밍 적재는 created_at을 시작 시각으로 기록하고 끝난 뒤에 보이므로, 진행 중인 적재가 있으면 그 시작 시각 이전까지만 조회합니다.
+     * '모두 읽음'은 행 변경 대신 readUntil로 전달합니다.
+     * 
+     * @param userId  사용자 ID
+     * @param since   마지막으로 받은 알림 ID
+     * @param version 이전 응답의 version (없으면 since 알림 생성 이후의 변경)
+     * @param size    최대 조회 개수 (1 ~ 100)
+     * @return 변경 내역
+     * @throws NotificationException since 알림을 찾을 수 없거나 version 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public NotificationChangesDTO getChanges(Long userId, Long since, String version, int size) {
+        NotificationCursor sincePosition = new NotificationCursor(findCreatedAt(userId, since), since);
+        NotificationCursor versionPosition = version == null || version.isBlank()
+                ? new NotificationCursor(sincePosition.createdAt(), 0L)
+                : NotificationCursor.decode(version);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        LocalDateTime settledAt = settledAt();
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+
+        // 새 알림: (생성 시각, ID) 오름차순
+        List<PushNotificationDTO> created = new ArrayList<>();
+        userNotificationRepository.findCreatedAfter(userId, sincePosition.createdAt(), sincePosition.id(),
+                settledAt, Limit.of(pageSize + 1))
+                .forEach(row -> created.add(applyWatermark(row.toPushNotificationDTO(), readUntil)));
+        created.addAll(broadcastNotificationService.getCreatedAfter(userId, sincePosition, settledAt,
+                pageSize + 1, readUntil));
+        created.sort(Comparator.comparing(PushNotificationDTO::getCreatedAt)
+                .thenComparing(PushNotificationDTO::getNotificationId));
+
+        // 상태 변경: (변경 시각, ID) 오름차순
+        List<NotificationStateChangeDTO> changes = new ArrayList<>(userNotificationRepository.findStateChangesAfter(
+                userId, versionPosition.createdAt(), versionPosition.id(), settledAt, Limit.of(pageSize + 1)));
+        changes.addAll(broadcastNotificationService.getStateChanges(userId, versionPosition, settledAt,
+                pageSize + 1));
+        changes.sort(Comparator.comparing(NotificationStateChangeDTO::updatedAt)
+                .thenComparing(NotificationStateChangeDTO::notificationId));
+
+        boolean hasMore = created.size() > pageSize || changes.size() > pageSize;
+        List<PushNotificationDTO> notifications = created.size() > pageSize
+                ? new ArrayList<>(created.subList(0, pageSize)) : created;
+        List<NotificationStateChangeDTO> stateChanges = changes.size() > pageSize
+                ? new ArrayList<>(changes.subList(0, pageSize)) : changes;
+
+        Long nextSince = since;
+        if (!notifications.isEmpty()) {
+            nextSince = notifications.get(notifications.size() - 1).getNotificationId();
+        }
+        NotificationCursor nextVersion = versionPosition;
+        if (!stateChanges.isEmpty()) {
+            NotificationStateChangeDTO last = stateChanges.get(stateChanges.size() - 1);
+            nextVersion = new NotificationCursor(last.updatedAt(), last.notificationId());
+        }
+
+        return NotificationChangesDTO.builder()
+                .notifications(notifications)
+                .changes(stateChanges)
+                .readUntil(readUntil)
+                .nextSince(nextSince)
+                .version(nextVersion.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 변경 동기화로 조회할 최대 생성/변경 시각
+     *
+     * 진행 중인 적재가 있으면 시작 시각의 직전(1ms 전)까지로 제한합니다. (적재 행의 created_at은 시작 시각 이후, 밀리초 단위)
+     */
+    private LocalDateTime settledAt() {
+        LocalDateTime settledAt = LocalDateTime.now().minusSeconds(changesSettleSeconds);
+        LocalDateTime inFlight = bulkLoadWatermark.oldestInFlight();
+        if (inFlight == null) {
+            return settledAt;
+        }
+        LocalDateTime beforeLoad = inFlight.truncatedTo(ChronoUnit.MILLIS).minus(1, ChronoUnit.MILLIS);
+        return beforeLoad.isBefore(settledAt) ? beforeLoad : settledAt;
+    }
+
+    /**
+     * 개인 알림 또는 전체 발송 알림의 생성 시각
+     */
+    private LocalDateTime findCreatedAt(Long userId, Long notificationId) {
+        if (notificationId == null) {
+            throw new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+        }
+        return userNotificationRepository.findCreatedAtByIdAndUserId(notificationId, userId)
+                .or(() -> broadcastNotificationService.findCreatedAt(userId, notificationId))
+                .orElseThrow(() -> new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR));
+    }
+
+    private static PushNotificationDTO applyWatermark(PushNotificationDTO notification, LocalDateTime readUntil) {
+        if (notification.isRead() || !isCoveredByWatermark(notification.getCreatedAt(), readUntil)) {
+            return notification;
+        }
+        return notification.toBuilder().isRead(true).build();
+    }
+
+    /**
+     * 읽음 기준 시각 이전에 생성된 알림인지 확인
+     */
+    static boolean isCoveredByWatermark(LocalDateTime createdAt, LocalDateTime readUntil) {
+        return readUntil != null && createdAt != null && !createdAt.isAfter(readUntil);
+    }
+
+    /**
+     * 사용자의 모든 알림 읽음 처리
+     * 
+     * 알림 행을 수정하지 않고 읽음 기준 시각만 기록하므로 알림 수와 관계없이 한 번의 쿼리로 끝납니다.
+     * 기준 시각 이전 알림의 is_read 반영은 커밋 이후 {@link NotificationReadAllMaterializer}가 처리합니다.
+     * 
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void markAllAsRead(Long userId) {
+        // created_at은 밀리초로 반올림되어 저장되므로, 요청 이후 알림이 기준 시각에 포함되지 않도록 1ms 이전으로 기록
+        // (요청 직전 1ms 안에 생성된 알림은 읽지 않음으로 남을 수 있음)
+        LocalDateTime readUntil = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).minus(1, ChronoUnit.MILLIS);
+        readWatermarkRepository.upsert(userId, readUntil);
+        eventPublisher.publishEvent(new NotificationReadAllEvent(userId, readUntil));
+        unreadNotificationCounter.resetAfterCommit(userId);
+        timelineCache.invalidateAfterCommit(userId);
+        inboxVersion.bumpAfterCommit(List.of(userId));
+    }
+
+    /**
+     * 사용자의 알림함 ETag 조회
+     * 
+     * 알림함이 바뀔 때마다 증가하는 Redis 버전이므로 DB를 조회하지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @return ETag 값 (확인할 수 없으면 null)
+     */
+    public String getInboxETag(Long userId) {
+        return inboxVersion.current(userId);
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수 조회
+     * 
+     * Redis 카운터를 조회하므로 알림 수와 관계없이 일정한 비용으로 처리됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 읽지 않은 개인 알림 수 (전체 발송 알림 제외)
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
     }
 
     /**
      * 사용자의 알림 읽음 처리 (단일 및 여러 개 모두 처리)
      * 
+     * 엔티티를 조회하지 않고 청크마다 UPDATE로 처리합니다.
+     * 읽지 않은 알림을 먼저 읽음 처리한 행 수만큼 카운터를 감소시키고, 나머지(이미 읽은 알림)를 확인합니다.
+     * 개인 알림에서 처리되지 않은 ID가 있으면 전체 발송 알림으로 처리합니다.
+     * 
      * @param userId          사용자 ID
      * @param notificationIds 알림 ID 리스트
      * @throws IllegalArgumentException 알림 ID 리스트가 null이거나 비어있는 경우
@@ -61,20 +315,32 @@ public class NotificationAPIService {
      */
     @Transactional
     public void markAsRead(Long userId, List<Long> notificationIds) {
-        List<UserNotification> userNotifications = userNotificationRepository
-                .findByIdInAndUserIdAndNotDeleted(notificationIds, userId);
+        List<Long> ids = distinctIds(notificationIds);
+        LocalDateTime readUntil = readUntil(userId);
+        int unread = updateInChunks(ids,
+                chunk -> userNotificationRepository.markUnreadAsReadByIdInAndUserId(chunk, userId, readUntil));
+        int updated = updateInChunks(ids,
+                chunk -> userNotificationRepository.markAsReadByIdInAndUserId(chunk, userId));
+        int broadcastCount = updated < ids.size() ? broadcastNotificationService.markAsRead(userId, ids) : 0;
 
-        if (userNotifications.isEmpty()) {
+        if (updated + broadcastCount == 0) {
             throw new NotificationException(ErrorCode.NOTIFICATION_NOT_FOUND);
         }
-
-        userNotifications.forEach(UserNotification::markAsRead);
-        userNotificationRepository.saveAll(userNotifications);
+        unreadNotificationCounter.decrementAfterCommit(userId, unread);
+        if (broadcastCount > 0) {
+            unreadNotificationCounter.invalidateBroadcastAfterCommit(userId);
+        }
+        timelineCache.markAsReadAfterCommit(userId, ids);
+        inboxVersion.bumpAfterCommit(List.of(userId));
     }
 
     /**
      * 알림 삭제 처리 (단일 및 여러 개 모두 처리)
      * 
+     * 엔티티를 조회하지 않고 청크마다 UPDATE로 삭제 및 읽음 처리합니다.
+     * 읽지 않은 알림을 먼저 삭제한 행 수만큼 카운터를 감소시키고, 나머지(이미 읽은 알림)를 삭제합니다.
+     * 개인 알림에서 처리되지 않은 ID가 있으면 전체 발송 알림으로 처리합니다.
+     * 
      * @param userId          사용자 ID
      * @param notificationIds 알림 ID 리스트
      * @throws IllegalArgumentException 알림 ID 리스트가 null이거나 비어있는 경우
@@ -82,16 +348,49 @@ public class NotificationAPIService {
      */
     @Transactional
     public void markAsDeleted(Long userId, List<Long> notificationIds) {
-        List<UserNotification> userNotifications = userNotificationRepository
-                .findByIdInAndUserIdAndNotDeleted(notificationIds, userId);
+        List<Long> ids = distinctIds(notificationIds);
+        LocalDateTime readUntil = readUntil(userId);
+        int unread = updateInChunks(ids,
+                chunk -> userNotificationRepository.markUnreadAsDeletedByIdInAndUserId(chunk, userId, readUntil));
+        int updated = unread + updateInChunks(ids,
+                chunk -> userNotificationRepository.markAsDeletedByIdInAndUserId(chunk, userId));
+        int broadcastCount = updated < ids.size() ? broadcastNotificationService.markAsDeleted(userId, ids) : 0;
 
-        if (userNotifications.isEmpty()) {
+        if (updated + broadcastCount == 0) {
             throw new NotificationException(ErrorCode.NOTIFICATION_NOT_FOUND);
         }
+        unreadNotificationCounter.decrementAfterCommit(userId, unread);
+        if (broadcastCount > 0) {
+            unreadNotificationCounter.invalidateBroadcastAfterCommit(userId);
+        }
+        timelineCache.removeAfterCommit(userId, ids);
+        inboxVersion.bumpAfterCommit(List.of(userId));
+    }
 
-        userNotifications.forEach(UserNotification::markAsDeleted);
-        userNotifications.forEach(UserNotification::markAsRead);
+    /**
+     * 읽음 기준 시각 (이전 알림은 이미 읽은 것으로 집계되므로 카운터 감소량에서 제외)
+     */
+    private LocalDateTime readUntil(Long userId) {
+        return readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+    }
 
-        userNotificationRepository.saveAll(userNotifications);
+    private static List<Long> distinctIds(List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new IllegalArgumentException("알림 ID 리스트는 비어있을 수 없습니다.");
+        }
+        return notificationIds.stream().distinct().toList();
+    }
+
+    /**
+     * IN 절 파라미터 수를 제한하기 위해 청크 단위로 UPDATE를 실행합니다.
+     * 
+     * @return 청크별 처리 행 수의 합
+     */
+    private static int updateInChunks(List<Long> ids, ToIntFunction<List<Long>> update) {
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+            updated += update.applyAsInt(ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())));
+        }
+        return updated;
     }
 }
@@ -0,0 +1,234 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 다수 사용자 알림 Fan-out 실행기
+ *
+ * 사용자 ID 리스트를 슬라이스 단위로 나누어 처리합니다.
+ * - SEQUENTIAL: 슬라이스를 호출 스레드에서 순서대로 처리
+ * - PARALLEL: 슬라이스를 Virtual Thread에서 동시에 처리 (동시 실행 수는 DB 커넥션 풀 크기로 제한)
+ * - PIPELINE: resolve → persist → publish 단계를 제한된 큐로 연결하여 단계 간 처리를 겹쳐 수행
+ *
+ * DB 동시 실행 한도(퍼밋)는 실행기 하나에 하나만 두고 모든 호출이 나누어 사용하므로,
+ * 여러 Fan-out이 동시에 실행되어도 DB를 사용하는 슬라이스 작업 수의 합은 한도를 넘지 않습니다.
+ *
+ * 어떤 모드든 슬라이스 단위로 예외를 격리하며, 슬라이스별 처리 시간을 기록합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+public class NotificationFanoutExecutor {
+
+  public enum Mode {
+    SEQUENTIAL,
+    PARALLEL,
+    PIPELINE
+  }
+
+  private static final String SLICE_TIMER = "notification.fanout.slice";
+  private static final String QUEUE_DEPTH_GAUGE = "notification.fanout.queue.depth";
+
+  private final MeterRegistry meterRegistry;
+  private final Mode mode;
+  private final int sliceSize;
+  private final int maxConcurrency;
+  private final int queueCapacity;
+  private final int publishConcurrency;
+
+  /** DB를 사용하는 슬라이스 작업의 동시 실행 퍼밋 (모든 호출이 공유) */
+  private final Semaphore dbPermits;
+
+  /** 파이프라인 단계별 큐 깊이 (동시에 실행 중인 모든 파이프라인의 합계) */
+  private final Map<NotificationFanoutPipeline.Stage, AtomicInteger> queueDepths =
+      new EnumMap<>(NotificationFanoutPipeline.Stage.class);
+
+  public NotificationFanoutExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${notification.fanout.mode:SEQUENTIAL}") Mode mode,
+      @Value("${notification.fanout.slice-size:500}") int sliceSize,
+      @Value("${notification.fanout.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize,
+      @Value("${notification.fanout.queue-capacity:4}") int queueCapacity,
+      @Value("${notification.fanout.publish-concurrency:2}") int publishConcurrency) {
+    if (sliceSize <= 0) {
+      throw new IllegalArgumentException("notification.fanout.slice-size는 0보다 커야 합니다.");
+    }
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("notification.fanout.queue-capacity는 0보다 커야 합니다.");
+    }
+    this.meterRegistry = meterRegistry;
+    this.mode = mode;
+    this.sliceSize = sliceSize;
+    // 슬라이스 하나가 커넥션 하나를 점유하므로, 풀 크기를 넘는 동시 실행은 커넥션 대기만 늘립니다.
+    this.maxConcurrency = Math.max(1, Math.min(maxConcurrency, dbPoolSize));
+    this.dbPermits = new Semaphore(this.maxConcurrency);
+    this.queueCapacity = queueCapacity;
+    this.publishConcurrency = Math.max(1, publishConcurrency);
+
+    for (NotificationFanoutPipeline.Stage stage : NotificationFanoutPipeline.Stage.values()) {
+      AtomicInteger depth = new AtomicInteger();
+      queueDepths.put(stage, depth);
+      Gauge.builder(QUEUE_DEPTH_GAUGE, depth, AtomicInteger::get)
+          .tag("stage", stage.name())
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 사용자 ID 리스트를 resolve → persist → publish 단계로 처리합니다.
+   *
+   * PIPELINE 모드에서는 단계들이 서로 다른 슬라이스를 동시에 처리하며,
+   * 그 외 모드에서는 세 단계를 하나의 슬라이스 작업으로 묶어 실행합니다.
+   * 단계 함수가 null을 반환하면 해당 슬라이스의 이후 단계는 생략됩니다.
+   *
+   * @param name      로그/메트릭에 사용할 작업 이름
+   * @param userIds   전체 사용자 ID 리스트
+   * @param resolve   수신자 조회 및 알림 생성 (DB 읽기)
+   * @param persist   알림 저장 (DB 쓰기)
+   * @param publish   푸시 전송 (Redis)
+   */
+  @SuppressWarnings("unchecked")
+  public <R, P> void execute(String name, List<Long> userIds,
+      Function<List<Long>, R> resolve,
+      Function<R, P> persist,
+      Consumer<P> publish) {
+    if (mode == Mode.PIPELINE && userIds.size() > sliceSize) {
+      // resolve와 persist 워커가 함께 DB 커넥션을 사용하므로 동시 실행 한도를 나누어 가집니다.
+      // 실제 DB 동시 실행은 공유 퍼밋으로 제한되므로, 다른 호출과 겹치면 워커는 퍼밋을 기다립니다.
+      int resolveWorkers = Math.max(1, maxConcurrency / 2);
+      int persistWorkers = Math.max(1, maxConcurrency - resolveWorkers);
+      long startedAt = System.nanoTime();
+
+      new NotificationFanoutPipeline(name, meterRegistry, queueDepths, queueCapacity,
+          resolveWorkers, persistWorkers, publishConcurrency)
+          .run(userIds, sliceSize,
+              slice -> withDbPermit(() -> resolve.apply((List<Long>) slice)),
+              resolved -> withDbPermit(() -> persist.apply((R) resolved)),
+              persisted -> {
+                publish.accept((P) persisted);
+                return null;
+              });
+
+      log.info("파이프라인 Fan-out 완료: name={}, users={}, workers={}/{}/{}, elapsedMs={}", name, userIds.size(),
+          resolveWorkers, persistWorkers, publishConcurrency,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+      return;
+    }
+
+    execute(name, userIds, slice -> {
+      R resolved = resolve.apply(slice);
+      if (resolved == null) {
+        return;
+      }
+      P persisted = persist.apply(resolved);
+      if (persisted == null) {
+        return;
+      }
+      publish.accept(persisted);
+    });
+  }
+
+  /**
+   * 사용자 ID 리스트를 슬라이스로 나누어 처리합니다.
+   *
+   * 슬라이스 처리 중 발생한 예외는 로그로 남기고 다음 슬라이스는 계속 처리합니다.
+   *
+   * @param name        로그/메트릭에 사용할 작업 이름
+   * @param userIds     전체 사용자 ID 리스트
+   * @param sliceTask   슬라이스 단위 처리 로직
+   */
+  public void execute(String name, List<Long> userIds, Consumer<List<Long>> sliceTask) {
+    int totalUsers = userIds.size();
+    if (mode == Mode.PARALLEL && totalUsers > sliceSize) {
+      executeParallel(name, userIds, sliceTask);
+      return;
+    }
+
+    for (int i = 0; i < totalUsers; i += sliceSize) {
+      int end = Math.min(i + sliceSize, totalUsers);
+      runSlice(name, userIds.subList(i, end), i, end, sliceTask);
+    }
+  }
+
+  private void executeParallel(String name, List<Long> userIds, Consumer<List<Long>> sliceTask) {
+    int totalUsers = userIds.size();
+    List<Future<?>> futures = new ArrayList<>();
+    long startedAt = System.nanoTime();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < totalUsers; i += sliceSize) {
+        int start = i;
+        int end = Math.min(i + sliceSize, totalUsers);
+        List<Long> slice = userIds.subList(start, end);
+
+        // 동시 실행 수 제한: 슬라이스 제출 전에 공유 퍼밋을 획득하여 커넥션 풀 고갈을 방지
+        dbPermits.acquireUninterruptibly();
+        futures.add(executor.submit(() -> {
+          try {
+            runSlice(name, slice, start, end, sliceTask);
+          } finally {
+            dbPermits.release();
+          }
+        }));
+      }
+    }
+    // try-with-resources의 close()가 모든 슬라이스 종료를 기다립니다.
+
+    log.info("병렬 Fan-out 완료: name={}, users={}, slices={}, concurrency={}, elapsedMs={}", name, totalUsers,
+        futures.size(), maxConcurrency, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+  }
+
+  private <T> T withDbPermit(Supplier<T> task) {
+    dbPermits.acquireUninterruptibly();
+    try {
+      return task.get();
+    } finally {
+      dbPermits.release();
+    }
+  }
+
+  private void runSlice(String name, List<Long> slice, int start, int end, Consumer<List<Long>> sliceTask) {
+    long sliceStartedAt = System.nanoTime();
+    String outcome = "success";
+    try {
+      sliceTask.accept(slice);
+    } catch (Exception e) {
+      outcome = "failure";
+      log.error("배치 처리 중 오류 발생: name={}, range={}-{}, error={}", name, start, end, e.getMessage(), e);
+      // 배치 처리 중 오류가 발생하더라도 다음 배치는 계속 처리해야 함
+    } finally {
+      long elapsed = System.nanoTime() - sliceStartedAt;
+      Timer.builder(SLICE_TIMER)
+          .tag("name", name)
+          .tag("mode", mode.name())
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .record(elapsed, TimeUnit.NANOSECONDS);
+      log.debug("슬라이스 처리 시간: name={}, range={}-{}, elapsedMs={}", name, start, end,
+          TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 3단계 Fan-out 파이프라인 (resolve → persist → publish)
+ *
+ * 각 단계는 Virtual Thread 워커로 동작하며, 단계 사이를 크기가 제한된 큐로 연결합니다.
+ * 하위 단계가 느리면 큐가 가득 차 상위 단계의 put이 블로킹되므로, 슬라이스 생산까지 역압(backpressure)이 전달됩니다.
+ * 동시에 메모리에 존재하는 슬라이스 수는 (큐 용량 × 3 + 워커 수)로 제한됩니다.
+ *
+ * 한 번의 Fan-out 실행마다 생성되며, 큐 깊이 카운터는 실행기에서 공유합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+final class NotificationFanoutPipeline {
+
+  enum Stage {
+    RESOLVE,
+    PERSIST,
+    PUBLISH
+  }
+
+  private static final String STAGE_TIMER = "notification.fanout.stage";
+  private static final String STAGE_RECIPIENTS = "notification.fanout.stage.recipients";
+
+  /**
+   * 슬라이스 범위와 이전 단계의 결과를 함께 전달합니다.
+   */
+  private record Item(int start, int end, Object payload) {
+  }
+
+  /** 종료 신호 (큐 깊이에 포함하지 않음) */
+  private static final Item END = new Item(-1, -1, null);
+
+  private final String name;
+  private final MeterRegistry meterRegistry;
+  private final Map<Stage, AtomicInteger> queueDepths;
+  private final int queueCapacity;
+  private final int resolveWorkers;
+  private final int persistWorkers;
+  private final int publishWorkers;
+
+  NotificationFanoutPipeline(String name, MeterRegistry meterRegistry, Map<Stage, AtomicInteger> queueDepths,
+      int queueCapacity, int resolveWorkers, int persistWorkers, int publishWorkers) {
+    this.name = name;
+    this.meterRegistry = meterRegistry;
+    this.queueDepths = queueDepths;
+    this.queueCapacity = queueCapacity;
+    this.resolveWorkers = resolveWorkers;
+    this.persistWorkers = persistWorkers;
+    this.publishWorkers = publishWorkers;
+  }
+
+  /**
+   * 사용자 ID 리스트를 슬라이스로 나누어 파이프라인에 투입하고, 모든 단계가 끝날 때까지 대기합니다.
+   *
+   * 단계 함수가 null을 반환하면 해당 슬라이스는 다음 단계로 전달되지 않습니다.
+   * 단계 처리 중 발생한 예외는 해당 슬라이스에만 영향을 주며, 나머지 슬라이스는 계속 처리됩니다.
+   */
+  void run(List<Long> userIds, int sliceSize,
+      Function<Object, Object> resolve,
+      Function<Object, Object> persist,
+      Function<Object, Object> publish) {
+    BlockingQueue<Item> resolveQueue = new ArrayBlockingQueue<>(queueCapacity);
+    BlockingQueue<Item> persistQueue = new ArrayBlockingQueue<>(queueCapacity);
+    BlockingQueue<Item> publishQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+    AtomicInteger resolveRemaining = new AtomicInteger(resolveWorkers);
+    AtomicInteger persistRemaining = new AtomicInteger(persistWorkers);
+    AtomicInteger publishRemaining = new AtomicInteger(publishWorkers);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < resolveWorkers; i++) {
+        executor.submit(() -> work(Stage.RESOLVE, resolveQueue, Stage.PERSIST, persistQueue, resolveRemaining,
+            resolve));
+      }
+      for (int i = 0; i < persistWorkers; i++) {
+        executor.submit(() -> work(Stage.PERSIST, persistQueue, Stage.PUBLISH, publishQueue, persistRemaining,
+            persist));
+      }
+      for (int i = 0; i < publishWorkers; i++) {
+        executor.submit(() -> work(Stage.PUBLISH, publishQueue, null, null, publishRemaining, publish));
+      }
+
+      // 슬라이스 생산은 호출 스레드에서 수행하며, resolve 큐가 가득 차면 여기서 블로킹됩니다.
+      int totalUsers = userIds.size();
+      for (int i = 0; i < totalUsers; i += sliceSize) {
+        int end = Math.min(i + sliceSize, totalUsers);
+        put(Stage.RESOLVE, resolveQueue, new Item(i, end, userIds.subList(i, end)));
+      }
+      put(Stage.RESOLVE, resolveQueue, END);
+    }
+    // try-with-resources의 close()가 모든 워커 종료를 기다립니다.
+  }
+
+  private void work(Stage stage, BlockingQueue<Item> in, Stage nextStage, BlockingQueue<Item> out,
+      AtomicInteger remaining, Function<Object, Object> task) {
+    try {
+      while (true) {
+        Item item = take(stage, in);
+        if (item == END) {
+          // 같은 단계의 다른 워커도 종료할 수 있도록 종료 신호를 되돌려 놓습니다.
+          put(stage, in, END);
+          return;
+        }
+
+        Object result = apply(stage, item, task);
+        if (result != null && out != null) {
+          put(nextStage, out, new Item(item.start(), item.end(), result));
+        }
+      }
+    } finally {
+      // 단계의 마지막 워커가 종료될 때 다음 단계에 종료 신호를 전달합니다.
+      if (remaining.decrementAndGet() == 0 && out != null) {
+        put(nextStage, out, END);
+      }
+    }
+  }
+
+  private Object apply(Stage stage, Item item, Function<Object, Object> task) {
+    long startedAt = System.nanoTime();
+    String outcome = "success";
+    try {
+      return task.apply(item.payload());
+    } catch (Exception e) {
+      outcome = "failure";
+      log.error("파이프라인 단계 처리 중 오류 발생: name={}, stage={}, range={}-{}, error={}", name, stage,
+          item.start(), item.end(), e.getMessage(), e);
+      // 한 슬라이스의 실패가 다른 슬라이스 처리에 영향을 주지 않아야 함
+      return null;
+    } finally {
+      Timer.builder(STAGE_TIMER)
+          .tag("name", name)
+          .tag("stage", stage.name())
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      Counter.builder(STAGE_RECIPIENTS)
+          .tag("name", name)
+          .tag("stage", stage.name())
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .increment(item.end() - item.start());
+    }
+  }
+
+  private void put(Stage stage, BlockingQueue<Item> queue, Item item) {
+    // take()보다 먼저 반영되도록 put 이전에 증가시킵니다.
+    AtomicInteger depth = item != END ? queueDepths.get(stage) : null;
+    if (depth != null) {
+      depth.incrementAndGet();
+    }
+    try {
+      queue.put(item);
+    } catch (InterruptedException e) {
+      if (depth != null) {
+        depth.decrementAndGet();
+      }
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Fan-out 파이프라인이 중단되었습니다: stage=" + stage, e);
+    }
+  }
+
+  private Item take(Stage stage, BlockingQueue<Item> queue) {
+    try {
+      Item item = queue.take();
+      if (item != END) {
+        queueDepths.get(stage).decrementAndGet();
+      }
+      return item;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Fan-out 파이프라인이 중단되었습니다: stage=" + stage, e);
+    }
+  }
+}
@@ -2,19 +2,27 @@ package com.homesweet.notification.service.impl;
 
 import com.homesweet.notification.auth.entity.User;
 import com.homesweet.notification.auth.service.UserService;
+import com.homesweet.notification.domain.BroadcastAudience;
 import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.domain.event.BroadcastNotificationEvent;
 import com.homesweet.notification.domain.event.CustomNotificationEvent;
 import com.homesweet.notification.domain.event.TemplateNotificationEvent;
 import com.homesweet.notification.domain.notification.CustomNotification;
 import com.homesweet.notification.domain.notification.TemplateNotification;
+import com.homesweet.notification.domain.template.CompiledTemplate;
+import com.homesweet.notification.dto.NotificationMessage;
 import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.entity.BroadcastNotification;
 import com.homesweet.notification.entity.NotificationTemplate;
 import com.homesweet.notification.entity.UserNotification;
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
 import com.homesweet.notification.service.NotificationPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -22,8 +30,10 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 알림 이벤트 리스너
@@ -37,11 +47,21 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationProcessor {
 
+  /** 스트리밍 적재 시 수신자 확인/전송 단위 */
+  private static final int BULK_LOAD_CHUNK_SIZE = 1000;
+
   private final UserNotificationService userNotificationService;
   private final NotificationPublisher notificationPublisher;
   private final UserService userService;
+  private final NotificationFanoutExecutor fanoutExecutor;
+  private final BroadcastNotificationService broadcastNotificationService;
+  private final NotificationTimelineCache timelineCache;
+
+  @Value("${notification.recipient.verify-existence:true}")
+  private boolean verifyRecipientExistence;
 
-  private static final int BATCH_SIZE = 500;
+  @Value("${notification.bulk-load.threshold:0}")
+  private int bulkLoadThreshold;
 
   /**
    * 템플릿 알림 이벤트 처리
@@ -83,6 +103,97 @@ public class NotificationProcessor {
     processBatchNotifications(userIds, notification, template);
   }
 
+  /**
+   * 템플릿 알림 배치 처리 (Kafka 배치 리스너용)
+   * 
+   * 단일 사용자 이벤트는 모아서(group commit) 한 번의 다중 행 INSERT와 한 번의 Redis 파이프라인으로 처리합니다.
+   * 다수 사용자 이벤트를 만나면 그 전까지 모인 단일 알림을 먼저 처리하여 이벤트 순서를 유지합니다.
+   * 전체 사용자 대상의 시스템/프로모션 알림은 사용자별 행을 만들지 않고 전체 발송으로 처리합니다.
+   * 모든 처리가 끝난 뒤 반환하므로 Kafka commit은 저장 이후에 이루어집니다.
+   */
+  public void processTemplateNotifications(List<TemplateNotificationEvent> events) {
+    List<TemplateNotificationEvent> singleEvents = new ArrayList<>();
+
+    for (TemplateNotificationEvent event : events) {
+      if (event.userIds().size() == 1) {
+        singleEvents.add(event);
+        continue;
+      }
+      flushSingleNotifications(singleEvents);
+      if (isAllUserBroadcast(event)) {
+        processBroadcastNotification(new BroadcastNotificationEvent(event.notification(), BroadcastAudience.ALL));
+        continue;
+      }
+      processTemplateNotification(event);
+    }
+    flushSingleNotifications(singleEvents);
+  }
+
+  /**
+   * 전체 사용자에게 보내는 시스템/프로모션 알림인지 확인
+   *
+   * 수신자 수가 전체 사용자 수보다 적으면 조회 없이 제외하고,
+   * 그 이상이면 존재하는 사용자만 세어 전체 사용자 수와 같은지 확인합니다.
+   * (존재하지 않는 ID가 섞여 일부 사용자가 빠진 경우를 전체 발송으로 바꾸지 않기 위함)
+   */
+  private boolean isAllUserBroadcast(TemplateNotificationEvent event) {
+    NotificationCategoryType categoryType = event.notification().getEventType().getCategoryType();
+    if (categoryType != NotificationCategoryType.SYSTEM && categoryType != NotificationCategoryType.PROMOTION) {
+      return false;
+    }
+
+    long totalUsers = userService.countUsers();
+    List<Long> userIds = new ArrayList<>(new HashSet<>(event.userIds()));
+    if (totalUsers <= 0 || userIds.size() < totalUsers) {
+      return false;
+    }
+
+    long existingUsers = 0;
+    for (int from = 0; from < userIds.size(); from += BULK_LOAD_CHUNK_SIZE) {
+      existingUsers += userService.getExistingUserIds(
+          userIds.subList(from, Math.min(from + BULK_LOAD_CHUNK_SIZE, userIds.size()))).size();
+    }
+    return existingUsers == totalUsers;
+  }
+
+  /**
+   * 전체 발송 알림 이벤트 처리
+   */
+  @EventListener
+  public void handleBroadcastNotificationEvent(BroadcastNotificationEvent event) {
+    processBroadcastNotification(event);
+  }
+
+  /**
+   * 전체 발송 알림 처리 로직 (fan-out on read)
+   * 
+   * 사용자별 알림 행을 만들지 않고 한 건만 저장한 뒤, 대상 조건과 함께 한 번만 발행합니다.
+   * 사용자의 받은 알림함에는 조회 시점에 합쳐집니다.
+   */
+  public void processBroadcastNotification(BroadcastNotificationEvent event) {
+    TemplateNotification notification = event.notification();
+    log.info("전체 발송 알림 이벤트 처리 시작: audience={}, eventType={}", event.audience(),
+        notification.getEventType());
+
+    NotificationTemplate template = userNotificationService.getNotificationTemplate(notification.getEventType());
+    BroadcastNotification broadcastNotification = broadcastNotificationService.saveBroadcast(
+        template,
+        notification.toMap(),
+        event.audience());
+
+    try {
+      PushNotificationDTO pushNotificationDTO = buildPushNotificationDTO(
+          broadcastNotification.getContextData(),
+          template,
+          broadcastNotification.getId());
+      notificationPublisher.publishBroadcast(event.audience(), pushNotificationDTO);
+    } catch (Exception e) {
+      // 저장된 알림은 다음 알림함 조회 시 노출됨
+      log.error("전체 발송 알림 전송 실패: broadcastNotificationId={}, error={}", broadcastNotification.getId(),
+          e.getMessage(), e);
+    }
+  }
+
   /**
    * 커스텀 알림 이벤트 처리
    * 
@@ -139,7 +250,7 @@ public class NotificationProcessor {
       // 5. DTO 변환
       PushNotificationDTO pushNotificationDTO = buildPushNotificationDTO(userNotification.getContextData(), template, userNotification.getId());
       // 6. 푸시 알림 전송
-      notificationPublisher.publish(userNotification.getUser().getId(), pushNotificationDTO);
+      deliver(userNotification.getUser().getId(), pushNotificationDTO);
     }
   }
 
@@ -165,13 +276,100 @@ public class NotificationProcessor {
           userNotification.getId());
 
       // 푸시 알림 전송
-      notificationPublisher.publish(userId, pushNotificationDTO);
+      deliver(userId, pushNotificationDTO);
     } catch (Exception e) {
       log.error("커스텀 알림 처리 실패: userId={}, error={}", userId, e.getMessage(), e);
     }
   }
 
 
+  /**
+   * 모인 단일 사용자 이벤트를 한 번에 저장하고 전송합니다.
+   * 
+   * 그룹 저장이 실패하면 이벤트별 처리로 전환하여, 문제가 있는 이벤트만 실패하도록 합니다.
+   */
+  private void flushSingleNotifications(List<TemplateNotificationEvent> singleEvents) {
+    if (singleEvents.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (singleEvents.size() == 1) {
+        processTemplateNotification(singleEvents.get(0));
+        return;
+      }
+
+      List<GroupedNotification> groupedNotifications;
+      try {
+        groupedNotifications = createGroupedSingleNotifications(singleEvents);
+        userNotificationService.bulkInsertUserNotifications(groupedNotifications.stream()
+            .map(GroupedNotification::userNotification)
+            .toList());
+      } catch (Exception e) {
+        log.error("단일 알림 그룹 저장 실패, 이벤트별 처리로 전환: count={}, error={}", singleEvents.size(),
+            e.getMessage(), e);
+        singleEvents.forEach(this::processTemplateNotification);
+        return;
+      }
+
+      // 저장이 끝난 알림은 전송 실패 시에도 다시 저장하지 않음
+      try {
+        List<NotificationMessage> messages = new ArrayList<>(groupedNotifications.size());
+        for (GroupedNotification grouped : groupedNotifications) {
+          UserNotification userNotification = grouped.userNotification();
+          PushNotificationDTO pushNotificationDTO = buildPushNotificationDTO(userNotification.getContextData(),
+              grouped.template(), userNotification.getId());
+          messages.add(new NotificationMessage(userNotification.getUserId(), pushNotificationDTO));
+        }
+        deliverAll(messages);
+      } catch (Exception e) {
+        log.error("단일 알림 그룹 전송 실패: count={}, error={}", groupedNotifications.size(), e.getMessage(), e);
+      }
+
+      log.info("단일 알림 그룹 처리 완료: events={}, saved={}", singleEvents.size(), groupedNotifications.size());
+    } finally {
+      singleEvents.clear();
+    }
+  }
+
+  /**
+   * 그룹 저장 대상 알림과 해당 템플릿
+   */
+  private record GroupedNotification(UserNotification userNotification, NotificationTemplate template) {
+  }
+
+  /**
+   * 단일 사용자 이벤트들로 알림 생성 (존재하지 않는 사용자는 제외)
+   * 
+   * @return 생성된 알림과 해당 템플릿 (이벤트 순서 유지)
+   */
+  private List<GroupedNotification> createGroupedSingleNotifications(
+      List<TemplateNotificationEvent> singleEvents) {
+    List<Long> userIds = singleEvents.stream()
+        .map(event -> event.userIds().get(0))
+        .distinct()
+        .toList();
+    Set<Long> recipientIds = new HashSet<>(resolveRecipientIds(userIds));
+
+    List<GroupedNotification> groupedNotifications = new ArrayList<>(singleEvents.size());
+    for (TemplateNotificationEvent event : singleEvents) {
+      Long userId = event.userIds().get(0);
+      if (!recipientIds.contains(userId)) {
+        log.error("사용자 알림 객체 생성 실패: userId={}, error={}", userId, "존재하지 않는 사용자");
+        continue;
+      }
+
+      TemplateNotification notification = event.notification();
+      NotificationTemplate template = userNotificationService.getNotificationTemplate(notification.getEventType());
+      UserNotification userNotification = userNotificationService.createRecipientNotification(
+          userId,
+          template,
+          notification.toMap());
+      groupedNotifications.add(new GroupedNotification(userNotification, template));
+    }
+    return groupedNotifications;
+  }
+
   /**
    * 알림 정보를 활용해 단일 사용자 알림 생성
    */
@@ -194,90 +392,159 @@ public class NotificationProcessor {
 
   private void processBatchNotifications(List<Long> userIds, TemplateNotification notification,
       NotificationTemplate template) {
-    int totalUsers = userIds.size();
-    for (int i = 0; i < totalUsers; i += BATCH_SIZE) {
-      int end = Math.min(i + BATCH_SIZE, totalUsers);
-      List<Long> batchUserIds = userIds.subList(i, end);
+    // 모든 수신자가 공유하는 contextData는 이벤트당 한 번만 직렬화
+    SerializedContextData contextData = SerializedContextData.of(notification.toMap());
 
-      try {
-        // 3. 배치 단위 알림 생성
-        List<UserNotification> batchUserNotifications = createBatchUserNotifications(batchUserIds, notification,
-            template);
-
-        if (batchUserNotifications.isEmpty()) {
-          continue;
-        }
+    if (useBulkLoad(userIds) && processBulkLoad(userIds, contextData, template)) {
+      return;
+    }
 
+    fanoutExecutor.execute("template", userIds,
+        // 3. 배치 단위 알림 생성
+        batchUserIds -> emptyToNull(createBatchUserNotifications(batchUserIds, contextData, template)),
         // 4. 배치 저장
-        userNotificationService.bulkInsertUserNotifications(batchUserNotifications);
-
+        this::persistBatch,
         // 5. 배치 DTO 변환 및 전송
-        Map<Long, PushNotificationDTO> pushNotificationDTOMap = convertToPushNotificationDTO(template,
-            batchUserNotifications);
-        notificationPublisher.publishBulk(pushNotificationDTOMap);
-
-      } catch (Exception e) {
-        log.error("배치 처리 중 오류 발생: range={}-{}, error={}", i, end, e.getMessage(), e);
-        // 배치 처리 중 오류가 발생하더라도 다음 배치는 계속 처리해야 함
-      }
-    }
+        batchUserNotifications -> deliverBulk(
+            convertToPushNotificationDTO(template, batchUserNotifications)));
   }
 
   /**
    * 커스텀 알림 다수 사용자 배치 처리
    */
-  private void processBatchCustomNotifications(List<Long> userIds, Map<String, Object> contextData) {
-    int totalUsers = userIds.size();
-    for (int i = 0; i < totalUsers; i += BATCH_SIZE) {
-      int end = Math.min(i + BATCH_SIZE, totalUsers);
-      List<Long> batchUserIds = userIds.subList(i, end);
+  private void processBatchCustomNotifications(List<Long> userIds, Map<String, Object> enrichedContextData) {
+    // 모든 수신자가 공유하는 contextData는 이벤트당 한 번만 직렬화
+    SerializedContextData contextData = SerializedContextData.of(enrichedContextData);
 
-      try {
+    if (useBulkLoad(userIds) && processBulkLoad(userIds, contextData, null)) {
+      return;
+    }
+
+    fanoutExecutor.execute("custom", userIds,
         // 배치 단위 알림 생성 (템플릿 없음)
-        List<UserNotification> batchUserNotifications = createBatchCustomUserNotifications(batchUserIds, contextData);
+        batchUserIds -> emptyToNull(createBatchCustomUserNotifications(batchUserIds, contextData)),
+        // 배치 저장
+        this::persistBatch,
+        // 배치 DTO 변환 및 전송 (템플릿 null 처리)
+        batchUserNotifications -> deliverBulk(
+            convertToPushNotificationDTO(null, batchUserNotifications)));
+  }
 
-        if (batchUserNotifications.isEmpty()) {
-          continue;
-        }
+  /**
+   * 수신자 수가 설정한 기준 이상이면 스트리밍 적재를 사용합니다. (기준이 0 이하이면 사용하지 않음)
+   */
+  private boolean useBulkLoad(List<Long> userIds) {
+    return bulkLoadThreshold > 0 && userIds.size() >= bulkLoadThreshold;
+  }
 
-        // 배치 저장
-        userNotificationService.bulkInsertUserNotifications(batchUserNotifications);
+  /**
+   * 대량 발송 스트리밍 적재 처리
+   *
+   * 수신자 확정 → 한 번의 스트리밍 적재 → 청크 단위 전송 순서로 처리합니다.
+   * 적재 문이 실패하면(서버의 local_infile 비활성화 등) 저장된 알림이 없으므로 Fan-out 처리로 전환합니다.
+   * 일부 행만 적재된 경우(그 사이 탈퇴한 수신자 등)는 이미 커밋되었으므로 성공으로 보고, 저장된 알림만 전송합니다.
+   *
+   * @return 스트리밍 적재로 처리를 마쳤으면 true
+   */
+  private boolean processBulkLoad(List<Long> userIds, SerializedContextData contextData,
+      NotificationTemplate template) {
+    List<Long> recipientIds = new ArrayList<>(userIds.size());
+    for (int from = 0; from < userIds.size(); from += BULK_LOAD_CHUNK_SIZE) {
+      recipientIds.addAll(resolveRecipientIds(
+          userIds.subList(from, Math.min(from + BULK_LOAD_CHUNK_SIZE, userIds.size()))));
+    }
+    if (recipientIds.isEmpty()) {
+      return true;
+    }
 
-        // 배치 DTO 변환 및 전송 (템플릿 null 처리)
-        Map<Long, PushNotificationDTO> pushNotificationDTOMap = convertToPushNotificationDTO(null,
-            batchUserNotifications);
-        notificationPublisher.publishBulk(pushNotificationDTOMap);
+    UserNotificationBulkLoader.Loaded loaded;
+    try {
+      loaded = userNotificationService.bulkLoadUserNotifications(recipientIds, template, contextData);
+    } catch (Exception e) {
+      log.error("스트리밍 적재 실패, Fan-out 처리로 전환: count={}, error={}", recipientIds.size(), e.getMessage(), e);
+      return false;
+    }
 
+    // 저장이 끝난 알림은 전송 실패 시에도 다시 저장하지 않음
+    List<Long> savedUserIds = loaded.userIds();
+    long[] notificationIds = loaded.notificationIds();
+    for (int from = 0; from < savedUserIds.size(); from += BULK_LOAD_CHUNK_SIZE) {
+      int to = Math.min(from + BULK_LOAD_CHUNK_SIZE, savedUserIds.size());
+      try {
+        Map<Long, PushNotificationDTO> pushNotificationDTOMap = new HashMap<>(to - from);
+        for (int i = from; i < to; i++) {
+          pushNotificationDTOMap.put(savedUserIds.get(i),
+              buildPushNotificationDTO(contextData, template, notificationIds[i]));
+        }
+        deliverBulk(pushNotificationDTOMap);
       } catch (Exception e) {
-        log.error("커스텀 알림 배치 처리 중 오류 발생: range={}-{}, error={}", i, end, e.getMessage(), e);
-        // 배치 처리 중 오류가 발생하더라도 다음 배치는 계속 처리해야 함
+        log.error("스트리밍 적재 알림 전송 실패: range={}-{}, error={}", from, to, e.getMessage(), e);
       }
     }
+
+    log.info("스트리밍 적재 처리 완료: requested={}, recipients={}, saved={}",
+        userIds.size(), recipientIds.size(), loaded.size());
+    return true;
+  }
+
+  /**
+   * 저장된 알림을 수신자의 타임라인 캐시에 추가한 뒤 푸시 알림으로 발행합니다.
+   * 
+   * 푸시를 받은 클라이언트가 알림함을 다시 조회할 때 새 알림이 보이도록 캐시를 먼저 갱신합니다.
+   */
+  private void deliver(Long userId, PushNotificationDTO pushNotificationDTO) {
+    timelineCache.append(List.of(new NotificationMessage(userId, pushNotificationDTO)));
+    notificationPublisher.publish(userId, pushNotificationDTO);
+  }
+
+  private void deliverBulk(Map<Long, PushNotificationDTO> pushNotificationDTOMap) {
+    List<NotificationMessage> messages = new ArrayList<>(pushNotificationDTOMap.size());
+    pushNotificationDTOMap.forEach((userId, dto) -> messages.add(new NotificationMessage(userId, dto)));
+    timelineCache.append(messages);
+    notificationPublisher.publishBulk(pushNotificationDTOMap);
+  }
+
+  private void deliverAll(List<NotificationMessage> messages) {
+    timelineCache.append(messages);
+    notificationPublisher.publishAll(messages);
+  }
+
+  private List<UserNotification> persistBatch(List<UserNotification> batchUserNotifications) {
+    userNotificationService.bulkInsertUserNotifications(batchUserNotifications);
+    return batchUserNotifications;
+  }
+
+  /**
+   * 생성된 알림이 없는 슬라이스는 저장/전송 단계를 생략합니다.
+   */
+  private static List<UserNotification> emptyToNull(List<UserNotification> batchUserNotifications) {
+    return batchUserNotifications.isEmpty() ? null : batchUserNotifications;
   }
 
 
   /**
    * 알림 정보를 활용해 다수 사용자 알림 생성 (배치)
+   *
+   * User 엔티티를 로딩하지 않고 사용자 ID만으로 알림을 생성합니다.
    */
   private List<UserNotification> createBatchUserNotifications(
       List<Long> userIds,
-      TemplateNotification notification,
+      SerializedContextData notificationContextData,
       NotificationTemplate template) {
     // 2. 알림 객체 생성 (메모리)
-    List<UserNotification> userNotifications = new ArrayList<>();
-    Map<String, Object> notificationContextData = notification.toMap();
-    List<User> users = userService.getManyUsersById(userIds);
+    List<Long> recipientIds = resolveRecipientIds(userIds);
+    List<UserNotification> userNotifications = new ArrayList<>(recipientIds.size());
 
-    for (User user : users) {
+    for (Long userId : recipientIds) {
       try {
         // 3. 사용자 알림 생성
-        UserNotification userNotification = userNotificationService.createUserNotification(
-            user,
+        UserNotification userNotification = userNotificationService.createRecipientNotification(
+            userId,
             template,
             notificationContextData);
         userNotifications.add(userNotification);
       } catch (Exception e) {
-        log.error("사용자 알림 객체 생성 실패: userId={}, error={}", user.getId(), e.getMessage(), e);
+        log.error("사용자 알림 객체 생성 실패: userId={}, error={}", userId, e.getMessage(), e);
       }
     }
     return userNotifications;
@@ -288,25 +555,44 @@ public class NotificationProcessor {
    */
   private List<UserNotification> createBatchCustomUserNotifications(
       List<Long> userIds,
-      Map<String, Object> contextData) {
-    List<UserNotification> userNotifications = new ArrayList<>();
-    List<User> users = userService.getManyUsersById(userIds);
+      SerializedContextData contextData) {
+    List<Long> recipientIds = resolveRecipientIds(userIds);
+    List<UserNotification> userNotifications = new ArrayList<>(recipientIds.size());
 
-    for (User user : users) {
+    for (Long userId : recipientIds) {
       try {
         // 템플릿 없이 사용자 알림 생성
-        UserNotification userNotification = userNotificationService.createUserNotification(
-            user,
+        UserNotification userNotification = userNotificationService.createRecipientNotification(
+            userId,
             null, // Custom 알림은 템플릿 없음
             contextData);
         userNotifications.add(userNotification);
       } catch (Exception e) {
-        log.error("커스텀 알림 객체 생성 실패: userId={}, error={}", user.getId(), e.getMessage(), e);
+        log.error("커스텀 알림 객체 생성 실패: userId={}, error={}", userId, e.getMessage(), e);
       }
     }
     return userNotifications;
   }
 
+  /**
+   * 알림 수신자 ID 확정
+   *
+   * 존재 여부 검증이 켜져 있으면 ID만 조회하는 가벼운 쿼리로 존재하는 사용자만 남깁니다.
+   * 꺼져 있으면 user_id FK 제약에 검증을 맡기고 전달받은 ID를 그대로 사용합니다.
+   * (이 경우 존재하지 않는 ID가 섞이면 해당 슬라이스 저장이 실패합니다.)
+   */
+  private List<Long> resolveRecipientIds(List<Long> userIds) {
+    if (!verifyRecipientExistence) {
+      return userIds;
+    }
+
+    List<Long> existingIds = userService.getExistingUserIds(userIds);
+    if (existingIds.size() < userIds.size()) {
+      log.warn("존재하지 않는 사용자 제외: requested={}, existing={}", userIds.size(), existingIds.size());
+    }
+    return existingIds;
+  }
+
   /**
    * 알림 객체를 여러개의 푸시 알림 DTO로 변환
    */
@@ -322,9 +608,9 @@ public class NotificationProcessor {
             template,
             userNotification.getId() // JDBC Insert로 할당된 ID 사용
         );
-        pushNotificationDTOMap.put(userNotification.getUser().getId(), pushNotificationDTO);
+        pushNotificationDTOMap.put(userNotification.getUserId(), pushNotificationDTO);
       } catch (Exception e) {
-        log.error("알림 DTO 생성 실패: userId={}, error={}", userNotification.getUser().getId(),
+        log.error("알림 DTO 생성 실패: userId={}, error={}", userNotification.getUserId(),
             e.getMessage(), e);
       }
     }
@@ -360,12 +646,12 @@ public class NotificationProcessor {
           .build();
     }
 
-    // 템플릿 기반 알림인 경우
+    // 템플릿 기반 알림인 경우 (contextData로 변수 치환)
     return PushNotificationDTO.builder()
         .notificationId(notificationId)
-        .title(template.getTitle())
-        .content(template.getContent())
-        .redirectUrl(template.getRedirectUrl())
+        .title(CompiledTemplate.render(template.getTitle(), contextData))
+        .content(CompiledTemplate.render(template.getContent(), contextData))
+        .redirectUrl(CompiledTemplate.render(template.getRedirectUrl(), contextData))
         .contextData(contextData)
         .categoryType(NotificationCategoryType.fromCategoryId(template.getCategory().getId()))
         .isRead(false)
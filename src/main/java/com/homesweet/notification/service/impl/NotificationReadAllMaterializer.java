@@ -0,0 +1,43 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.domain.event.NotificationReadAllEvent;
+import com.homesweet.notification.repository.UserNotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모두 읽음 처리의 백그라운드 반영
+ *
+ * 요청 처리 중에는 읽음 기준 시각만 기록하고, 커밋 이후 기준 시각 이전의 알림 행을 읽음으로 갱신합니다.
+ * 반영이 실패하거나 지연되어도 조회 시 기준 시각이 적용되므로 사용자에게 보이는 결과는 같습니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationReadAllMaterializer {
+
+    private final UserNotificationRepository userNotificationRepository;
+
+    @Async("notificationTaskExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleReadAllEvent(NotificationReadAllEvent event) {
+        try {
+            int updated = userNotificationRepository.markAsReadByUserIdAndCreatedAtUpTo(
+                    event.userId(), event.readUntil());
+            log.debug("모두 읽음 반영 완료: userId={}, readUntil={}, updated={}",
+                    event.userId(), event.readUntil(), updated);
+        } catch (Exception e) {
+            log.error("모두 읽음 반영 실패: userId={}, error={}", event.userId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.domain.NotificationTemplateType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 템플릿 무효화 메시지 수신
+ *
+ * 이 서비스는 템플릿을 변경하지 않으므로, 템플릿을 수정한 쪽(관리 도구 또는 운영자)이
+ * {@value #CHANNEL} 채널에 메시지를 발행해야 모든 인스턴스의 레지스트리가 갱신됩니다.
+ * <ul>
+ * <li>템플릿 타입 이름 (예: {@code ORDER_COMPLETED}): 해당 템플릿만 다시 적재</li>
+ * <li>{@code *}: 전체 템플릿을 다시 적재</li>
+ * </ul>
+ * 예) {@code redis-cli PUBLISH notification:template:invalidate ORDER_COMPLETED}
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class NotificationTemplateInvalidationListener implements MessageListener {
+
+  public static final String CHANNEL = "notification:template:invalidate";
+  private static final String ALL = "*";
+
+  private final NotificationTemplateRegistry notificationTemplateRegistry;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+    try {
+      if (ALL.equals(body)) {
+        notificationTemplateRegistry.reloadAll();
+        return;
+      }
+      notificationTemplateRegistry.invalidate(NotificationTemplateType.valueOf(body));
+    } catch (IllegalArgumentException e) {
+      log.warn("알 수 없는 템플릿 무효화 메시지: body={}", body);
+    } catch (Exception e) {
+      log.error("템플릿 무효화 처리 실패: body={}, error={}", body, e.getMessage(), e);
+    }
+  }
+}
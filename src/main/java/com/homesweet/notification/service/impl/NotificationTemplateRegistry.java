@@ -0,0 +1,111 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.domain.NotificationTemplateType;
+import com.homesweet.notification.entity.NotificationTemplate;
+import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.exception.NotificationException;
+import com.homesweet.notification.repository.NotificationTemplateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알림 템플릿 레지스트리
+ *
+ * 애플리케이션 시작 시 모든 템플릿을 카테고리와 함께(JOIN FETCH) 메모리에 적재합니다.
+ * 조회는 EnumMap 조회만 수행하므로 DB나 Hibernate 프록시에 접근하지 않습니다.
+ *
+ * 템플릿이 변경되면 Redis 무효화 메시지를 통해 모든 인스턴스가 다시 적재합니다.
+ * 적재되지 않은 템플릿은 최초 조회 시 DB에서 읽어 레지스트리에 추가합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTemplateRegistry {
+
+  private final NotificationTemplateRepository notificationTemplateRepository;
+
+  /**
+   * 읽기 전용 스냅샷 (변경 시 새 맵으로 교체)
+   */
+  private volatile Map<NotificationTemplateType, NotificationTemplate> templates = Collections.emptyMap();
+
+  /**
+   * 애플리케이션 시작 시 전체 템플릿 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    reloadAll();
+  }
+
+  /**
+   * 알림 템플릿 조회
+   *
+   * @param templateType 알림 템플릿 타입
+   * @return 카테고리가 초기화된 알림 템플릿
+   * @throws NotificationException 템플릿이 존재하지 않는 경우
+   */
+  public NotificationTemplate get(NotificationTemplateType templateType) {
+    NotificationTemplate template = templates.get(templateType);
+    if (template != null) {
+      return template;
+    }
+    return load(templateType);
+  }
+
+  /**
+   * 전체 템플릿 다시 적재
+   */
+  public synchronized void reloadAll() {
+    Map<NotificationTemplateType, NotificationTemplate> loaded = new EnumMap<>(NotificationTemplateType.class);
+    for (NotificationTemplate template : notificationTemplateRepository.findAllWithCategory()) {
+      loaded.put(template.getTemplateType(), template);
+    }
+    templates = loaded;
+    log.info("알림 템플릿 적재 완료: count={}", loaded.size());
+  }
+
+  /**
+   * 단일 템플릿 무효화 (다음 조회 시 DB에서 다시 적재)
+   */
+  public synchronized void invalidate(NotificationTemplateType templateType) {
+    if (!templates.containsKey(templateType)) {
+      return;
+    }
+    Map<NotificationTemplateType, NotificationTemplate> updated = new EnumMap<>(templates);
+    updated.remove(templateType);
+    templates = updated;
+    log.info("알림 템플릿 무효화: templateType={}", templateType);
+  }
+
+  private synchronized NotificationTemplate load(NotificationTemplateType templateType) {
+    // 다른 스레드가 먼저 적재했을 수 있으므로 다시 확인
+    NotificationTemplate cached = templates.get(templateType);
+    if (cached != null) {
+      return cached;
+    }
+
+    NotificationTemplate template = notificationTemplateRepository
+        .findWithCategoryByTemplateType(templateType)
+        .orElseThrow(() -> new NotificationException(
+            ErrorCode.NOTIFICATION_TEMPLATE_NOT_FOUND,
+            "알림 템플릿을 찾을 수 없습니다. eventType: " + templateType));
+
+    Map<NotificationTemplateType, NotificationTemplate> updated = templates.isEmpty()
+        ? new EnumMap<>(NotificationTemplateType.class)
+        : new EnumMap<>(templates);
+    updated.put(templateType, template);
+    templates = updated;
+    return template;
+  }
+}
@@ -0,0 +1,387 @@
+package com.homesweet.notification.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 받은 알림함 타임라인 캐시 (Redis)
+ *
+ * 사용자의 최신 개인 알림 20개를 렌더링된 상태로 Redis에 유지하여 알림함 조회 시 DB 조회를 생략합니다.
+ * - notification:timeline:{userId} (Sorted Set): 알림 ID, score는 생성 시각(ms)
+ * - notification:timeline:{userId}:entries (Hash): 알림 ID → 알림 JSON, r:{알림 ID} → 읽음 표시, _ → 적재 상태
+ *
+ * 캐시가 없으면 DB에서 조회해 적재하고, 이후에는 발송 경로에서 새 알림을 추가하고 읽음/삭제 시 해당 항목을 갱신합니다.
+ * 적재 중(_가 적재 토큰)에 읽음/삭제가 일어나면 적재를 취소하여, 적재된 캐시에는 사용자의 처리 결과가 항상 반영되도록 합니다.
+ * 삭제로 20개를 채울 수 없게 되면 캐시를 지우고 다음 조회 때 다시 적재합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTimelineCache {
+
+    static final int CAPACITY = 20;
+
+    private static final String KEY_PREFIX = "notification:timeline:";
+    private static final String ENTRIES_SUFFIX = ":entries";
+    private static final String READY = "1";
+    private static final int PIPELINE_SIZE = 1000;
+
+    /** 최신순 항목과 읽음 표시 조회 (적재 완료 상태가 아니면 nil) */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], '_') ~= '1' then
+              return false
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            local ids = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #ids == 0 then
+              return {}
+            end
+            local fields = {}
+            for i, id in ipairs(ids) do
+              fields[i] = id
+              fields[#ids + i] = 'r:' .. id
+            end
+            return redis.call('HMGET', KEYS[2], unpack(fields))
+            """, List.class);
+
+    /** 적재 시작 (다른 요청이 적재 중이거나 적재가 끝났으면 0) */
+    private static final RedisScript<Long> BEGIN_LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[2], '_', ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** 적재 완료 (적재 토큰이 그대로일 때만, 적재 중 추가된 항목은 유지) */
+    private static final RedisScript<Long> COMPLETE_LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], '_') ~= ARGV[1] then
+              return 0
+            end
+            for i = 4, #ARGV, 3 do
+              redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+              redis.call('HSETNX', KEYS[2], ARGV[i], ARGV[i + 2])
+            end
+            local overflow = redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            for _, id in ipairs(overflow) do
+              redis.call('ZREM', KEYS[1], id)
+              redis.call('HDEL', KEYS[2], id, 'r:' .. id)
+            end
+            redis.call('HSET', KEYS[2], '_', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** 새 알림 추가 (캐시가 있을 때만, 가장 오래된 항목부터 정리) */
+    private static final String APPEND_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[2], '_') == 0 then
+              return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[4], ARGV[3])
+            redis.call('HSET', KEYS[2], ARGV[3], ARGV[5])
+            local overflow = redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[1]) + 1))
+            for _, id in ipairs(overflow) do
+              redis.call('ZREM', KEYS[1], id)
+              redis.call('HDEL', KEYS[2], id, 'r:' .. id)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """;
+
+    /** 읽음 표시 (적재 중이면 적재 취소) */
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[2], '_')
+            if not state then
+              return 0
+            end
+            if state ~= '1' then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              return 0
+            end
+            local marked = 0
+            for i = 1, #ARGV do
+              if redis.call('HEXISTS', KEYS[2], ARGV[i]) == 1 then
+                redis.call('HSET', KEYS[2], 'r:' .. ARGV[i], '1')
+                marked = marked + 1
+              end
+            end
+            return marked
+            """, Long.class);
+
+    /** 삭제 (적재 중이거나 삭제 후 알림함을 채울 수 없으면 캐시 삭제) */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[2], '_')
+            if not state then
+              return 0
+            end
+            local full = redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1])
+            if state ~= '1' then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              return 0
+            end
+            local removed = 0
+            for i = 2, #ARGV do
+              removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+              redis.call('HDEL', KEYS[2], ARGV[i], 'r:' .. ARGV[i])
+            end
+            if removed > 0 and full then
+              redis.call('DEL', KEYS[1], KEYS[2])
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 캐시 유지 시간 (조회할 때마다 갱신) */
+    @Value("${notification.timeline.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 최신 개인 알림 조회 (최대 20개, 최신순)
+     *
+     * 캐시가 없으면 loader로 DB에서 조회해 적재합니다. Redis를 사용할 수 없으면 loader 결과를 그대로 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader DB 조회 (삭제되지 않은 최신 알림 20개, 최신순)
+     * @return 알림 목록
+     */
+    public List<PushNotificationDTO> getOrLoad(Long userId, Supplier<List<PushNotificationDTO>> loader) {
+        List<String> keys = keys(userId);
+        try {
+            List<?> cached = stringRedisTemplate.execute(READ_SCRIPT, keys,
+                    String.valueOf(CAPACITY), String.valueOf(ttlSeconds));
+            if (cached != null) {
+                List<PushNotificationDTO> notifications = fromCache(cached);
+                if (notifications != null) {
+                    return notifications;
+                }
+                invalidate(userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 타임라인 캐시 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return loader.get();
+        }
+
+        return load(userId, keys, loader);
+    }
+
+    /**
+     * 발송된 알림을 수신자의 캐시에 추가합니다. (캐시가 없는 사용자는 생략)
+     *
+     * 발송 경로에서 저장이 끝난 뒤 호출하며, 실패해도 발송 처리에 영향을 주지 않습니다.
+     */
+    public void append(List<NotificationMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        byte[] script = APPEND_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] capacity = bytes(String.valueOf(CAPACITY));
+        byte[] ttl = bytes(String.valueOf(ttlSeconds));
+
+        try {
+            for (int from = 0; from < messages.size(); from += PIPELINE_SIZE) {
+                List<NotificationMessage> chunk = messages.subList(from, Math.min(from + PIPELINE_SIZE, messages.size()));
+                List<byte[][]> arguments = new ArrayList<>(chunk.size());
+                for (NotificationMessage message : chunk) {
+                    PushNotificationDTO notification = message.getData();
+                    List<String> keys = keys(message.getUserId());
+                    arguments.add(new byte[][] {
+                            bytes(keys.get(0)), bytes(keys.get(1)), capacity, ttl,
+                            bytes(String.valueOf(notification.getNotificationId())),
+                            bytes(String.valueOf(score(notification))),
+                            bytes(toJson(notification)) });
+                }
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (byte[][] keysAndArgs : arguments) {
+                        connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, keysAndArgs);
+                    }
+                    return null;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 타임라인 캐시 추가 실패: count={}, error={}", messages.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 읽음 처리한 알림을 캐시에 반영합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void markAsReadAfterCommit(Long userId, Collection<Long> notificationIds) {
+        List<String> ids = notificationIds.stream().map(String::valueOf).toList();
+        AfterCommit.run("알림 타임라인 캐시 읽음",
+                () -> stringRedisTemplate.execute(MARK_READ_SCRIPT, keys(userId), ids.toArray()));
+    }
+
+    /**
+     * 삭제한 알림을 캐시에서 제거합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void removeAfterCommit(Long userId, Collection<Long> notificationIds) {
+        List<String> args = new ArrayList<>(notificationIds.size() + 1);
+        args.add(String.valueOf(CAPACITY));
+        notificationIds.forEach(id -> args.add(String.valueOf(id)));
+        AfterCommit.run("알림 타임라인 캐시 삭제",
+                () -> stringRedisTemplate.execute(REMOVE_SCRIPT, keys(userId), args.toArray()));
+    }
+
+    /**
+     * 사용자의 캐시를 지웁니다. (트랜잭션 커밋 이후 반영)
+     *
+     * 모두 읽음 처리처럼 캐시된 항목 전체가 바뀌는 경우 사용합니다.
+     */
+    public void invalidateAfterCommit(Long userId) {
+        AfterCommit.run("알림 타임라인 캐시 삭제", () -> invalidate(userId));
+    }
+
+    private List<PushNotificationDTO> load(Long userId, List<String> keys, Supplier<List<PushNotificationDTO>> loader) {
+        String token = UUID.randomUUID().toString();
+        boolean loading;
+        try {
+            Long begun = stringRedisTemplate.execute(BEGIN_LOAD_SCRIPT, keys, token, String.valueOf(ttlSeconds));
+            loading = begun != null && begun == 1;
+        } catch (RuntimeException e) {
+            log.warn("알림 타임라인 캐시 적재 시작 실패: userId={}, error={}", userId, e.getMessage());
+            loading = false;
+        }
+
+        List<PushNotificationDTO> notifications = loader.get();
+        if (!loading) {
+            return notifications;
+        }
+
+        try {
+            List<String> args = new ArrayList<>(3 + notifications.size() * 3);
+            args.add(token);
+            args.add(String.valueOf(ttlSeconds));
+            args.add(String.valueOf(CAPACITY));
+            for (PushNotificationDTO notification : notifications) {
+                args.add(String.valueOf(notification.getNotificationId()));
+                args.add(String.valueOf(score(notification)));
+                args.add(toJson(notification));
+            }
+            stringRedisTemplate.execute(COMPLETE_LOAD_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("알림 타임라인 캐시 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return notifications;
+    }
+
+    /**
+     * READ_SCRIPT 결과(항목 JSON n개, 읽음 표시 n개)를 DTO로 변환합니다.
+     *
+     * @return 항목이 누락되었거나 해석할 수 없으면 null
+     */
+    private List<PushNotificationDTO> fromCache(List<?> cached) {
+        int size = cached.size() / 2;
+        List<PushNotificationDTO> notifications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Object json = cached.get(i);
+            if (json == null) {
+                return null;
+            }
+            try {
+                TimelineEntry entry = objectMapper.readValue(json.toString(), TimelineEntry.class);
+                notifications.add(entry.toDTO(entry.read() || READY.equals(cached.get(size + i))));
+            } catch (JsonProcessingException e) {
+                log.warn("알림 타임라인 캐시 항목 해석 실패: error={}", e.getMessage());
+                return null;
+            }
+        }
+        return notifications;
+    }
+
+    private void invalidate(Long userId) {
+        stringRedisTemplate.delete(keys(userId));
+    }
+
+    private String toJson(PushNotificationDTO notification) {
+        try {
+            return objectMapper.writeValueAsString(TimelineEntry.from(notification));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 타임라인 항목 직렬화 실패", e);
+        }
+    }
+
+    private static long score(PushNotificationDTO notification) {
+        LocalDateTime createdAt = notification.getCreatedAt() != null ? notification.getCreatedAt() : LocalDateTime.now();
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static List<String> keys(Long userId) {
+        String timelineKey = KEY_PREFIX + userId;
+        return List.of(timelineKey, timelineKey + ENTRIES_SUFFIX);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 캐시에 저장하는 알림 항목
+     */
+    record TimelineEntry(
+            Long notificationId,
+            String title,
+            String content,
+            String redirectUrl,
+            Map<String, Object> contextData,
+            boolean read,
+            NotificationCategoryType categoryType,
+            LocalDateTime createdAt) {
+
+        static TimelineEntry from(PushNotificationDTO notification) {
+            return new TimelineEntry(
+                    notification.getNotificationId(),
+                    notification.getTitle(),
+                    notification.getContent(),
+                    notification.getRedirectUrl(),
+                    notification.getContextData(),
+                    notification.isRead(),
+                    notification.getCategoryType(),
+                    notification.getCreatedAt());
+        }
+
+        PushNotificationDTO toDTO(boolean isRead) {
+            return PushNotificationDTO.builder()
+                    .notificationId(notificationId)
+                    .title(title)
+                    .content(content)
+                    .redirectUrl(redirectUrl)
+                    .contextData(contextData)
+                    .isRead(isRead)
+                    .categoryType(categoryType)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 발행 서킷 브레이커
+ *
+ * Redis 발행이 연속으로 실패하면 일정 시간 동안 발행을 시도하지 않고(OPEN) 바로 로컬 대기열로 보냅니다.
+ * 시간이 지나면 한 번만 시도해 보고(HALF_OPEN), 성공하면 정상 상태로 돌아가며 실패하면 다시 차단합니다.
+ * 시도 결과가 나오기 전의 다른 발행은 차단된 것으로 처리합니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+public class PushCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+
+    public PushCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${notification.push.circuit.failure-threshold:3}") int failureThreshold,
+            @Value("${notification.push.circuit.open-ms:5000}") long openMillis) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("notification.push.circuit.failure-threshold는 0보다 커야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        Gauge.builder("notification.push.circuit.open", this, breaker -> breaker.state() == State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return Redis 발행을 시도해도 되면 true
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("푸시 발행 서킷 복구");
+        }
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("푸시 발행 서킷 차단: failures={}, openMs={}", failures, openMillis);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
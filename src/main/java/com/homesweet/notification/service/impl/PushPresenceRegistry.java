@@ -0,0 +1,81 @@
+package com.homesweet.notification.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 푸시 연결 상태 조회 (Redis)
+ *
+ * 푸시 게이트웨이는 연결된 사용자마다 notification:presence:{userId} 키를 TTL과 함께 기록하고,
+ * 하트비트마다 TTL을 갱신하며 연결이 끊기면 삭제합니다. 게이트웨이가 비정상 종료되어도 TTL이 지나면 키가 사라집니다.
+ *
+ * 발행기는 대량 발행 전에 키가 없는 사용자를 조회하여 발행에서 제외합니다.
+ * 제외된 사용자도 알림은 저장되어 있으므로 다음 접속 때 알림함에서 확인할 수 있습니다.
+ * 게이트웨이가 키를 기록하기 전에는 모두 오프라인으로 보이므로 기본값은 사용 안 함입니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushPresenceRegistry {
+
+    public static final String KEY_PREFIX = "notification:presence:";
+    private static final int BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${notification.presence.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 연결되어 있지 않은 사용자 조회
+     *
+     * 사용하지 않거나 Redis를 사용할 수 없으면 빈 집합을 반환하여 모두 발행되도록 합니다.
+     *
+     * @param userIds 수신자 ID (중복 가능)
+     * @return 오프라인 사용자 ID
+     */
+    public Set<Long> offline(Collection<Long> userIds) {
+        if (!enabled || userIds == null || userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Set<Long> offline = new HashSet<>();
+        try {
+            for (int from = 0; from < distinct.size(); from += BATCH_SIZE) {
+                List<Long> chunk = distinct.subList(from, Math.min(from + BATCH_SIZE, distinct.size()));
+                List<String> values = stringRedisTemplate.opsForValue()
+                        .multiGet(chunk.stream().map(PushPresenceRegistry::key).toList());
+                if (values == null) {
+                    return Set.of();
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (values.get(i) == null) {
+                        offline.add(chunk.get(i));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("푸시 연결 상태 조회 실패, 모두 발행: count={}, error={}", distinct.size(), e.getMessage());
+            return Set.of();
+        }
+        return offline;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,486 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 푸시 발행 실패 대기열 (로컬 디스크)
+ *
+ * Redis 발행에 실패한 메시지를 인코딩된 그대로(발행 대상, payload) 메모리 매핑된 세그먼트 파일에 순서대로 추가하고,
+ * Redis가 복구되면 발행기가 오래된 것부터 꺼내 다시 발행합니다. 프로세스가 재시작되어도 남은 메시지는 이어서 발행됩니다.
+ *
+ * <pre>
+ * 세그먼트  [magic 4바이트][다시 발행한 위치 4바이트][레코드]...
+ * 레코드    [발행 대상 길이 4바이트][payload 길이 4바이트][적재 시각 8바이트][발행 대상][payload]
+ * </pre>
+ *
+ * 레코드는 본문을 먼저 쓰고 길이를 마지막에 기록하므로, 쓰는 도중 종료되어도 길이가 0인 곳까지만 유효한 레코드로 봅니다.
+ * 다시 발행한 위치는 발행 이후에 기록하므로 중간에 종료되면 일부 메시지가 한 번 더 발행될 수 있습니다. (클라이언트는 알림 ID로 중복 제거)
+ * 다 발행한 세그먼트는 삭제하며, 전체 크기가 max-bytes를 넘으면 새 메시지는 버리고 dropped로 기록합니다.
+ *
+ * 기본값은 사용 안 함이며, 켜면 재시작 후에도 남아 있어야 하므로 영속 디스크의 디렉터리를 직접 지정해야 합니다. (지정하지 않으면 시작 실패)
+ * 같은 디렉터리를 여러 프로세스가 사용하지 않도록 lock 파일을 잠그며, 잠글 수 없으면 ERROR 로그를 남기고 대기열을 사용하지 않습니다.
+ * (notification.push.spillover.available 게이지가 0)
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+public class PushSpilloverQueue implements AutoCloseable {
+
+    /**
+     * 인코딩된 발행 메시지
+     *
+     * @param destination 채널 또는 스트림 키
+     * @param payload     직렬화된 메시지
+     */
+    public record Frame(byte[] destination, byte[] payload) {
+    }
+
+    /**
+     * 다시 발행할 메시지 묶음 (commit 하기 전까지 대기열에 남아 있음)
+     */
+    public record Batch(long segment, int endOffset, List<Frame> frames) {
+
+        public boolean isEmpty() {
+            return frames.isEmpty();
+        }
+    }
+
+    private static final Batch EMPTY = new Batch(-1, 0, List.of());
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int MAGIC = 0x4E505331;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 16;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter dropped;
+
+    private FileChannel lockChannel;
+    private boolean available;
+    private long nextSequence = 1;
+
+    private volatile long pendingBytes;
+    private volatile long pendingMessages;
+    private volatile long oldestSpilledAt;
+
+    public PushSpilloverQueue(
+            MeterRegistry meterRegistry,
+            @Value("${notification.push.spillover.enabled:false}") boolean enabled,
+            @Value("${notification.push.spillover.directory:}") String directory,
+            @Value("${notification.push.spillover.segment-bytes:67108864}") int segmentBytes,
+            @Value("${notification.push.spillover.max-bytes:1073741824}") long maxBytes) {
+        if (segmentBytes <= HEADER_BYTES + RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("notification.push.spillover.segment-bytes가 너무 작습니다.");
+        }
+        if (enabled && (directory == null || directory.isBlank())) {
+            throw new IllegalArgumentException(
+                    "notification.push.spillover.enabled가 true이면 notification.push.spillover.directory(영속 디스크 경로)를 지정해야 합니다.");
+        }
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+
+        this.spilled = meterRegistry.counter("notification.push.spillover.spilled");
+        this.replayed = meterRegistry.counter("notification.push.spillover.replayed");
+        this.dropped = meterRegistry.counter("notification.push.spillover.dropped");
+        Gauge.builder("notification.push.spillover.bytes", this, queue -> queue.pendingBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("notification.push.spillover.messages", this, queue -> queue.pendingMessages)
+                .register(meterRegistry);
+        Gauge.builder("notification.push.spillover.lag", this, PushSpilloverQueue::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("notification.push.spillover.available", this, queue -> queue.available ? 1 : 0)
+                .register(meterRegistry);
+
+        if (enabled) {
+            open();
+        }
+    }
+
+    /**
+     * 메시지를 대기열 끝에 추가합니다.
+     *
+     * @return 모두 추가했으면 true (대기열을 사용할 수 없거나 가득 차서 버린 메시지가 있으면 false)
+     */
+    public boolean append(List<Frame> frames) {
+        if (frames.isEmpty()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            int accepted = 0;
+            if (available) {
+                Segment segment = null;
+                for (Frame frame : frames) {
+                    int size = RECORD_HEADER_BYTES + frame.destination().length + frame.payload().length;
+                    if (pendingBytes + size > maxBytes || size > segmentBytes - HEADER_BYTES) {
+                        break;
+                    }
+                    segment = writableSegment(size);
+                    write(segment, frame, size);
+                    accepted++;
+                }
+                if (segment != null) {
+                    segment.buffer.force();
+                }
+            }
+            spilled.increment(accepted);
+            if (accepted < frames.size()) {
+                dropped.increment(frames.size() - accepted);
+                log.error("푸시 대기열에 추가하지 못한 메시지 버림: dropped={}, pendingBytes={}",
+                        frames.size() - accepted, pendingBytes);
+                return false;
+            }
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            dropped.increment(frames.size());
+            log.error("푸시 대기열 기록 실패: count={}, error={}", frames.size(), e.getMessage(), e);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 메시지부터 최대 max개를 꺼냅니다. (대기열에서 제거하지 않음)
+     *
+     * 한 번에 하나의 세그먼트 안에서만 꺼냅니다.
+     */
+    public Batch peek(int max) {
+        lock.lock();
+        try {
+            releaseDrained();
+            Segment head = segments.peekFirst();
+            if (head == null || head.readOffset >= head.writeOffset) {
+                return EMPTY;
+            }
+
+            List<Frame> frames = new ArrayList<>();
+            int offset = head.readOffset;
+            while (frames.size() < max && offset < head.writeOffset) {
+                int destinationLength = head.buffer.getInt(offset);
+                int payloadLength = head.buffer.getInt(offset + 4);
+                byte[] destination = new byte[destinationLength];
+                byte[] payload = new byte[payloadLength];
+                head.buffer.get(offset + RECORD_HEADER_BYTES, destination);
+                head.buffer.get(offset + RECORD_HEADER_BYTES + destinationLength, payload);
+                frames.add(new Frame(destination, payload));
+                offset += RECORD_HEADER_BYTES + destinationLength + payloadLength;
+            }
+            return new Batch(head.sequence, offset, frames);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다시 발행한 묶음을 대기열에서 제거합니다.
+     */
+    public void commit(Batch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            Segment segment = segments.stream()
+                    .filter(candidate -> candidate.sequence == batch.segment())
+                    .findFirst()
+                    .orElse(null);
+            if (segment == null || batch.endOffset() <= segment.readOffset) {
+                return;
+            }
+            pendingBytes -= batch.endOffset() - segment.readOffset;
+            pendingMessages -= batch.frames().size();
+            segment.readOffset = batch.endOffset();
+            segment.buffer.putInt(4, batch.endOffset());
+            replayed.increment(batch.frames().size());
+            releaseDrained();
+            refreshOldest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 다시 발행할 메시지가 있으면 true
+     */
+    public boolean hasPending() {
+        return pendingMessages > 0;
+    }
+
+    public long pendingMessages() {
+        return pendingMessages;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("푸시 대기열 종료 실패: error={}", e.getMessage());
+        } finally {
+            available = false;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 디렉터리를 잠그고 남아 있는 세그먼트를 엽니다.
+     */
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve("lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock = tryLock(lockChannel);
+            if (fileLock == null) {
+                log.error("다른 프로세스가 사용 중인 푸시 대기열 디렉터리, 대기열 사용 안 함 (인스턴스마다 별도 디렉터리 필요): directory={}",
+                        directory);
+                lockChannel.close();
+                return;
+            }
+
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+            }
+            for (Path path : files) {
+                Segment segment = Segment.open(path, sequenceOf(path));
+                if (segment == null) {
+                    log.warn("푸시 대기열 세그먼트를 해석할 수 없어 건너뜀: path={}", path);
+                    continue;
+                }
+                segments.addLast(segment);
+                nextSequence = segment.sequence + 1;
+                countPending(segment);
+            }
+            available = true;
+            releaseDrained();
+            refreshOldest();
+            log.info("푸시 대기열 열림: directory={}, segments={}, pending={}", directory, segments.size(), pendingMessages);
+        } catch (IOException | RuntimeException e) {
+            log.error("푸시 대기열을 열 수 없어 사용하지 않습니다: directory={}, error={}", directory, e.getMessage());
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private Segment writableSegment(int size) throws IOException {
+        Segment active = segments.peekLast();
+        if (active != null && active.writeOffset + size <= active.buffer.capacity()) {
+            return active;
+        }
+        if (active != null) {
+            active.buffer.force();
+        }
+        Segment segment = Segment.create(directory, nextSequence++, segmentBytes);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void write(Segment segment, Frame frame, int size) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = segment.writeOffset;
+        int destinationLength = frame.destination().length;
+        long now = System.currentTimeMillis();
+
+        // 이전에 쓰다 만 레코드가 남아 있어도 다음 위치에서 끝나도록 다음 레코드 길이를 먼저 비움
+        if (offset + size + Long.BYTES <= buffer.capacity()) {
+            buffer.putLong(offset + size, 0L);
+        }
+        buffer.put(offset + RECORD_HEADER_BYTES, frame.destination());
+        buffer.put(offset + RECORD_HEADER_BYTES + destinationLength, frame.payload());
+        buffer.putLong(offset + 8, now);
+        buffer.putInt(offset + 4, frame.payload().length);
+        buffer.putInt(offset, destinationLength);
+
+        segment.writeOffset = offset + size;
+        pendingBytes += size;
+        pendingMessages++;
+        if (oldestSpilledAt == 0) {
+            oldestSpilledAt = now;
+        }
+    }
+
+    /**
+     * 다 발행한 세그먼트를 삭제합니다. (쓰는 중인 마지막 세그먼트는 유지)
+     */
+    private void releaseDrained() {
+        while (segments.size() > 1 && segments.peekFirst().readOffset >= segments.peekFirst().writeOffset) {
+            Segment drained = segments.removeFirst();
+            try {
+                drained.close();
+                Files.deleteIfExists(drained.path);
+            } catch (IOException e) {
+                log.warn("푸시 대기열 세그먼트 삭제 실패: path={}, error={}", drained.path, e.getMessage());
+            }
+        }
+    }
+
+    private void countPending(Segment segment) {
+        int offset = segment.readOffset;
+        while (offset < segment.writeOffset) {
+            offset = segment.recordEnd(offset);
+            pendingMessages++;
+        }
+        pendingBytes += segment.writeOffset - segment.readOffset;
+    }
+
+    private void refreshOldest() {
+        long oldest = 0;
+        for (Segment segment : segments) {
+            if (segment.readOffset < segment.writeOffset) {
+                oldest = segment.buffer.getLong(segment.readOffset + 8);
+                break;
+            }
+        }
+        oldestSpilledAt = oldest;
+    }
+
+    private double lagSeconds() {
+        long oldest = oldestSpilledAt;
+        return oldest == 0 ? 0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int readOffset;
+        private int writeOffset;
+
+        private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer,
+                int readOffset, int writeOffset) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.readOffset = readOffset;
+            this.writeOffset = writeOffset;
+        }
+
+        static Segment create(Path directory, long sequence, int size) throws IOException {
+            Path path = directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, HEADER_BYTES);
+            return new Segment(sequence, path, channel, buffer, HEADER_BYTES, HEADER_BYTES);
+        }
+
+        /**
+         * 기존 세그먼트를 열고 마지막으로 완성된 레코드 위치를 찾습니다.
+         *
+         * @return 세그먼트 형식이 아니면 null
+         */
+        static Segment open(Path path, long sequence) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                channel.close();
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                channel.close();
+                return null;
+            }
+
+            Segment segment = new Segment(sequence, path, channel, buffer, HEADER_BYTES, HEADER_BYTES);
+            for (int end = segment.recordEnd(HEADER_BYTES); end > 0; end = segment.recordEnd(end)) {
+                segment.writeOffset = end;
+            }
+            // 레코드 경계가 아닌 위치는 처음부터 다시 발행
+            int readOffset = buffer.getInt(4);
+            segment.readOffset = segment.isRecordBoundary(readOffset) ? readOffset : HEADER_BYTES;
+            return segment;
+        }
+
+        /**
+         * @return offset에서 시작하는 레코드의 끝 위치 (완성된 레코드가 없으면 -1)
+         */
+        int recordEnd(int offset) {
+            if (offset + RECORD_HEADER_BYTES > buffer.capacity()) {
+                return -1;
+            }
+            int destinationLength = buffer.getInt(offset);
+            int payloadLength = buffer.getInt(offset + 4);
+            if (destinationLength <= 0 || payloadLength < 0) {
+                return -1;
+            }
+            long end = (long) offset + RECORD_HEADER_BYTES + destinationLength + payloadLength;
+            return end > buffer.capacity() ? -1 : (int) end;
+        }
+
+        boolean isRecordBoundary(int offset) {
+            for (int position = HEADER_BYTES; position <= writeOffset; position = recordEnd(position)) {
+                if (position == offset) {
+                    return true;
+                }
+                if (position == writeOffset) {
+                    break;
+                }
+            }
+            return false;
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.repository.NotificationReadWatermarkRepository;
+import com.homesweet.notification.repository.UserNotificationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터 (Redis)
+ *
+ * 개인 알림의 읽지 않은 수를 Redis에 유지하여 뱃지 조회를 키 하나로 처리합니다.
+ * 카운터는 조회 시 DB에서 한 번 계산해 적재하고, 이후에는 저장/읽음/삭제 경로에서 커밋 이후 증감합니다.
+ * 키가 없는 사용자는 증감하지 않으므로 다음 조회 때 DB 값으로 다시 적재됩니다.
+ *
+ * 증감된 사용자 중 일부(reconcile-sample-rate)만 점검 대상 집합에 기록되며, 주기적으로 DB 값과 비교해 어긋난 카운터를 복구합니다.
+ * 점검은 대상 집합이 빌 때까지(한 번에 최대 reconcile-max-batches 묶음) 이어서 처리하므로 집합이 계속 커지지 않습니다.
+ * 스트리밍 적재 기준 이상의 대량 발송은 사용자별로 증가시키지 않고 카운터를 지워 다음 조회 때 DB에서 다시 적재합니다.
+ *
+ * 전체 발송 알림은 발송할 때 모든 사용자의 카운터를 증가시킬 수 없으므로, 사용자별로 따로 계산한 값을
+ * 공용 버전(InboxVersion)과 함께 저장하고 버전이 바뀌면(새 전체 발송) DB에서 다시 계산합니다.
+ * 사용자가 전체 발송 알림을 읽음/삭제하거나 모두 읽음 처리하면 저장한 값을 지웁니다.
+ *
+ * @author dogyungkim
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String BROADCAST_KEY_PREFIX = "notification:unread-broadcast:";
+    private static final String DIRTY_KEY = "notification:unread-reconcile";
+    private static final int PIPELINE_SIZE = 1000;
+
+    /** 키가 있을 때만 증감 (음수가 되면 어긋난 것으로 보고 삭제하여 다시 적재, ARGV[3]이 1이면 점검 대상으로 기록) */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+              redis.call('DEL', KEYS[1])
+              return -1
+            end
+            if ARGV[3] == '1' then
+              redis.call('SADD', KEYS[2], ARGV[2])
+            end
+            return count
+            """, Long.class);
+
+    /** 점검 중에 값이 바뀌지 않은 경우에만 DB 값으로 교체 */
+    private static final RedisScript<Long> REPAIR_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserNotificationRepository userNotificationRepository;
+    private final NotificationReadWatermarkRepository readWatermarkRepository;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final InboxVersion inboxVersion;
+    private final MeterRegistry meterRegistry;
+
+    /** 카운터 유지 시간 (조회할 때마다 갱신) */
+    @Value("${notification.unread-counter.ttl-hours:24}")
+    private long ttlHours;
+
+    /** 전체 발송 알림 읽지 않은 수 유지 시간 (조회로 갱신하지 않으므로 어긋나도 이 시간 안에 다시 계산) */
+    @Value("${notification.unread-counter.broadcast-ttl-seconds:300}")
+    private long broadcastTtlSeconds;
+
+    /** 한 번의 점검에서 비교할 최대 사용자 수 */
+    @Value("${notification.unread-counter.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /** 한 번의 점검에서 처리할 최대 묶음 수 */
+    @Value("${notification.unread-counter.reconcile-max-batches:20}")
+    private int reconcileMaxBatches;
+
+    /** 증감된 사용자를 점검 대상으로 기록하는 비율 (0 ~ 1) */
+    @Value("${notification.unread-counter.reconcile-sample-rate:0.05}")
+    private double reconcileSampleRate;
+
+    /** 이 수 이상의 사용자에게 한 번에 저장하면 증가 대신 카운터 삭제 (0 이하이면 사용 안 함) */
+    @Value("${notification.bulk-load.threshold:0}")
+    private int bulkLoadThreshold;
+
+    /**
+     * 읽지 않은 알림 수 조회 (개인 알림 + 전체 발송 알림)
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 수
+     */
+    public long get(Long userId) {
+        return getPersonal(userId) + getBroadcast(userId);
+    }
+
+    /**
+     * 읽지 않은 개인 알림 수 조회
+     *
+     * 카운터가 없으면 DB에서 계산해 적재하고, Redis를 사용할 수 없으면 DB 값을 반환합니다.
+     * 계산과 적재 사이에 커밋된 증가는 키가 없어 반영되지 않으므로, 적재한 사용자는 항상 점검 대상으로 기록합니다.
+     * (조회할 때마다 만료 시간이 갱신되어 자주 조회되는 카운터는 만료로 복구되지 않음)
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 개인 알림 수
+     */
+    private long getPersonal(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = stringRedisTemplate.opsForValue().getAndExpire(key, ttl());
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            long count = countFromDatabase(userId);
+            // 동시에 다른 요청이 적재한 값이 있으면 덮어쓰지 않음
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl());
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+            return count;
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 카운터 조회 실패, DB로 조회: userId={}, error={}", userId, e.getMessage());
+            return countFromDatabase(userId);
+        }
+    }
+
+    /**
+     * 읽지 않은 전체 발송 알림 수 조회
+     *
+     * 저장한 값의 공용 버전이 현재와 같으면 그대로 사용하고, 다르면 DB에서 다시 계산합니다.
+     */
+    private long getBroadcast(Long userId) {
+        String key = broadcastKey(userId);
+        try {
+            String version = inboxVersion.broadcastVersion();
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null && version != null && cached.startsWith(version + ":")) {
+                return Long.parseLong(cached.substring(version.length() + 1));
+            }
+            long count = countBroadcastsFromDatabase(userId);
+            if (version != null) {
+                stringRedisTemplate.opsForValue().set(key, version + ":" + count, Duration.ofSeconds(broadcastTtlSeconds));
+            }
+            return count;
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 전체 발송 알림 수 조회 실패, DB로 조회: userId={}, error={}", userId, e.getMessage());
+            return countBroadcastsFromDatabase(userId);
+        }
+    }
+
+    /**
+     * 새 알림 저장 후 카운터 증가 (트랜잭션 커밋 이후 반영)
+     *
+     * 수신자가 스트리밍 적재 기준 이상이면 증가 대신 카운터를 삭제합니다. (다음 조회 때 DB에서 적재)
+     *
+     * @param userIds 수신자 ID (같은 사용자가 여러 번 있으면 그 수만큼 증가)
+     */
+    public void incrementAfterCommit(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long userId : userIds) {
+            deltas.merge(userId, 1L, Long::sum);
+        }
+        if (bulkLoadThreshold > 0 && deltas.size() >= bulkLoadThreshold) {
+            List<Long> recipients = new ArrayList<>(deltas.keySet());
+            afterCommit(() -> invalidate(recipients));
+            return;
+        }
+        afterCommit(() -> adjust(deltas));
+    }
+
+    /**
+     * 알림 읽음/삭제 후 카운터 감소 (트랜잭션 커밋 이후 반영)
+     *
+     * @param userId 사용자 ID
+     * @param count  읽음 처리된 읽지 않은 알림 수
+     */
+    public void decrementAfterCommit(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(() -> adjust(Map.of(userId, -count)));
+    }
+
+    /**
+     * 전체 발송 알림 읽음/삭제 후 저장한 값 삭제 (트랜잭션 커밋 이후 반영, 다음 조회 때 DB에서 계산)
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidateBroadcastAfterCommit(Long userId) {
+        afterCommit(() -> stringRedisTemplate.delete(broadcastKey(userId)));
+    }
+
+    /**
+     * 모두 읽음 처리 후 카운터 초기화 (트랜잭션 커밋 이후 반영)
+     *
+     * @param userId 사용자 ID
+     */
+    public void resetAfterCommit(Long userId) {
+        afterCommit(() -> {
+            stringRedisTemplate.opsForValue().set(key(userId), "0", ttl());
+            stringRedisTemplate.delete(broadcastKey(userId));
+        });
+    }
+
+    /**
+     * 카운터 점검 및 복구
+     *
+     * 점검 대상 사용자의 카운터를 DB 값과 비교하고, 다르면 DB 값으로 교체합니다.
+     * 대상 집합이 빌 때까지 묶음 단위로 이어서 처리하며, 한 번에 최대 reconcile-max-batches 묶음까지 처리합니다.
+     * 점검 중에 카운터가 바뀐 사용자는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int checked = 0;
+        int repaired = 0;
+        for (int batch = 0; batch < reconcileMaxBatches; batch++) {
+            List<String> members;
+            try {
+                members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, reconcileBatchSize);
+            } catch (RuntimeException e) {
+                log.warn("읽지 않은 알림 카운터 점검 대상 조회 실패: error={}", e.getMessage());
+                break;
+            }
+            if (members == null || members.isEmpty()) {
+                break;
+            }
+
+            for (String member : members) {
+                try {
+                    if (reconcile(Long.valueOf(member))) {
+                        repaired++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("읽지 않은 알림 카운터 점검 실패: userId={}, error={}", member, e.getMessage());
+                }
+            }
+            checked += members.size();
+            if (members.size() < reconcileBatchSize) {
+                break;
+            }
+        }
+        if (checked > 0) {
+            log.info("읽지 않은 알림 카운터 점검 완료: checked={}, repaired={}", checked, repaired);
+        }
+    }
+
+    /**
+     * @return 카운터를 복구했으면 true
+     */
+    private boolean reconcile(Long userId) {
+        String key = key(userId);
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached == null) {
+            return false;
+        }
+
+        long actual = countFromDatabase(userId);
+        if (Long.parseLong(cached) == actual) {
+            return false;
+        }
+
+        Long replaced = stringRedisTemplate.execute(REPAIR_SCRIPT, List.of(key),
+                cached, String.valueOf(actual), String.valueOf(ttl().toSeconds()));
+        if (replaced == null || replaced == 0) {
+            return false;
+        }
+        meterRegistry.counter("notification.unread.drift").increment();
+        log.warn("읽지 않은 알림 카운터 불일치 복구: userId={}, cached={}, actual={}", userId, cached, actual);
+        return true;
+    }
+
+    /**
+     * 읽음 기준 시각 이후의 읽지 않은 개인 알림 수
+     */
+    private long countFromDatabase(Long userId) {
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+        return userNotificationRepository.countUnreadByUserId(userId, readUntil);
+    }
+
+    /**
+     * 읽음 기준 시각 이후의 읽지 않은 전체 발송 알림 수
+     */
+    private long countBroadcastsFromDatabase(Long userId) {
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(userId).orElse(null);
+        return broadcastNotificationService.countUnread(userId, readUntil);
+    }
+
+    /**
+     * 사용자별 증감을 파이프라인으로 전송합니다.
+     *
+     * 스크립트 본문은 묶음마다 한 번만 적재(SCRIPT LOAD)하고, 사용자별로는 SHA로 실행(EVALSHA)합니다.
+     * (재시작 등으로 Redis의 스크립트 캐시가 비어 있어도 같은 파이프라인에서 먼저 적재되므로 NOSCRIPT가 나지 않음)
+     */
+    private void adjust(Map<Long, Long> deltas) {
+        byte[] script = ADJUST_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        String sha = ADJUST_SCRIPT.getSha1();
+        byte[] dirtyKey = DIRTY_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] sampled = "1".getBytes(StandardCharsets.UTF_8);
+        byte[] skipped = "0".getBytes(StandardCharsets.UTF_8);
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        for (int from = 0; from < entries.size(); from += PIPELINE_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + PIPELINE_SIZE, entries.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.scriptingCommands().scriptLoad(script);
+                for (Map.Entry<Long, Long> entry : chunk) {
+                    connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 2,
+                            key(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            dirtyKey,
+                            String.valueOf(entry.getValue()).getBytes(StandardCharsets.UTF_8),
+                            String.valueOf(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            ThreadLocalRandom.current().nextDouble() < reconcileSampleRate ? sampled : skipped);
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 카운터를 지워 다음 조회 때 DB에서 다시 적재하도록 합니다.
+     */
+    private void invalidate(List<Long> userIds) {
+        for (int from = 0; from < userIds.size(); from += PIPELINE_SIZE) {
+            stringRedisTemplate.unlink(userIds.subList(from, Math.min(from + PIPELINE_SIZE, userIds.size())).stream()
+                    .map(UnreadNotificationCounter::key)
+                    .toList());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        AfterCommit.run("읽지 않은 알림 카운터", action);
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(ttlHours);
+    }
+
+    private static String broadcastKey(Long userId) {
+        return BROADCAST_KEY_PREFIX + userId;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -3,19 +3,16 @@ package com.homesweet.notification.service.impl;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.homesweet.notification.exception.ErrorCode;
 import com.homesweet.notification.auth.entity.User;
 import com.homesweet.notification.domain.NotificationTemplateType;
+import com.homesweet.notification.domain.SerializedContextData;
 import com.homesweet.notification.entity.NotificationTemplate;
 import com.homesweet.notification.entity.UserNotification;
-import com.homesweet.notification.exception.NotificationException;
-import com.homesweet.notification.repository.NotificationTemplateRepository;
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
 import com.homesweet.notification.repository.UserNotificationJdbcRepository;
-import com.homesweet.notification.repository.UserNotificationRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,9 +28,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class UserNotificationService {
 
-    private final NotificationTemplateRepository notificationTemplateRepository;
+    private final NotificationTemplateRegistry notificationTemplateRegistry;
     private final UserNotificationJdbcRepository userNotificationJdbcRepository;
-    private final UserNotificationRepository userNotificationRepository;
+    private final UserNotificationBulkLoader userNotificationBulkLoader;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final InboxVersion inboxVersion;
+    private final BulkLoadWatermark bulkLoadWatermark;
 
     /**
      * 사용자 알림을 대량으로 저장합니다.
@@ -53,11 +53,44 @@ public class UserNotificationService {
         }
 
         userNotificationJdbcRepository.saveAll(userNotifications);
+        List<Long> userIds = userNotifications.stream().map(UserNotification::getUserId).toList();
+        unreadNotificationCounter.incrementAfterCommit(userIds);
+        inboxVersion.bumpAfterCommit(userIds);
+    }
+
+    /**
+     * 같은 알림을 받는 다수 사용자의 알림을 스트리밍 적재로 저장합니다.
+     *
+     * UserNotification 객체를 만들지 않고 수신자 ID에서 바로 행을 생성하므로 대량 발송에 사용합니다.
+     * 적재가 끝날 때까지 진행 중으로 기록하여, 변경 동기화가 아직 보이지 않는 행을 건너뛰지 않도록 합니다.
+     *
+     * @param userIds     수신자 ID 리스트
+     * @param template    알림 템플릿 (Custom 알림의 경우 null 가능)
+     * @param contextData 모든 수신자가 공유하는 컨텍스트 데이터
+     * @return 저장된 수신자와 알림 ID (그 사이 탈퇴한 수신자 등 적재되지 않은 행은 제외)
+     */
+    @Transactional
+    public UserNotificationBulkLoader.Loaded bulkLoadUserNotifications(
+            List<Long> userIds,
+            NotificationTemplate template,
+            SerializedContextData contextData) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("사용자 ID 리스트는 null일 수 없습니다.");
+        }
+        UserNotificationBulkLoader.Loaded loaded = bulkLoadWatermark.track(() -> userNotificationBulkLoader.load(
+                userIds,
+                template != null ? template.getId() : null,
+                contextData.json()));
+        unreadNotificationCounter.incrementAfterCommit(loaded.userIds());
+        inboxVersion.bumpAfterCommit(loaded.userIds());
+        return loaded;
     }
 
     /**
      * 사용자 알림을 단건 저장합니다.
      *
+     * ID를 애플리케이션에서 할당하므로 대량 저장과 같은 JDBC 경로로 저장합니다.
+     *
      * @param userNotification 사용자 알림
      * @throws IllegalArgumentException 알림이 null인 경우
      */
@@ -66,7 +99,9 @@ public class UserNotificationService {
         if (userNotification == null) {
             throw new IllegalArgumentException("사용자 알림은 null일 수 없습니다.");
         }
-        userNotificationRepository.save(userNotification);
+        userNotificationJdbcRepository.saveAll(List.of(userNotification));
+        unreadNotificationCounter.incrementAfterCommit(List.of(userNotification.getUserId()));
+        inboxVersion.bumpAfterCommit(List.of(userNotification.getUserId()));
     }
 
     /**
@@ -95,20 +130,36 @@ public class UserNotificationService {
                 .build();
     }
 
+    /**
+     * 사용자 ID만으로 사용자 알림을 생성합니다.
+     *
+     * User 엔티티를 로딩하지 않으므로 {@link #bulkInsertUserNotifications(List)}로만 저장해야 합니다.
+     *
+     * @param userId      사용자 ID
+     * @param template    알림 템플릿 (Custom 알림의 경우 null 가능)
+     * @param contextData 알림 컨텍스트 데이터
+     * @return 생성된 사용자 알림
+     */
+    public UserNotification createRecipientNotification(
+            Long userId,
+            NotificationTemplate template,
+            Map<String, Object> contextData) {
+        return UserNotification.forRecipient(
+                userId,
+                template,
+                contextData != null ? contextData : Map.of());
+    }
+
 
     /**
      * 알림 템플릿 조회
      * 
+     * 메모리에 적재된 템플릿 레지스트리에서 조회합니다.
+     * 
      * @param eventType 알림 템플릿 타입
      * @return 조회된 알림 템플릿
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "notificationTemplateCache", key = "#eventType", cacheManager = "localCacheManager")
     public NotificationTemplate getNotificationTemplate(NotificationTemplateType eventType) {
-        return notificationTemplateRepository
-                .findByTemplateType(eventType)
-                .orElseThrow(() -> new NotificationException(
-                        ErrorCode.NOTIFICATION_TEMPLATE_NOT_FOUND,
-                        "알림 템플릿을 찾을 수 없습니다. eventType: " + eventType));
+        return notificationTemplateRegistry.get(eventType);
     }
 }
@@ -0,0 +1,12 @@
+-- ====================================
+-- 사용자별 읽음 기준 시각
+-- ====================================
+
+-- '모두 읽음' 처리 시 알림 행을 바로 수정하지 않고 기준 시각만 기록합니다.
+-- read_until 이전에 생성된 알림은 조회 시 읽음으로 간주하고, 실제 플래그는 백그라운드에서 반영합니다.
+CREATE TABLE IF NOT EXISTS `notification_read_watermark` (
+    `user_id` BIGINT NOT NULL,
+    `read_until` TIMESTAMP NOT NULL,
+    PRIMARY KEY (`user_id`),
+    FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
+);
@@ -0,0 +1,14 @@
+-- ====================================
+-- 알림 변경 동기화
+-- ====================================
+
+-- 읽음/삭제 처리 시각 (재연결 시 이후 변경된 상태만 전달하기 위해 사용, 처리된 적 없으면 NULL)
+ALTER TABLE `user_notification` ADD COLUMN `updated_at` TIMESTAMP NULL;
+
+-- WHERE user_id = ? AND (updated_at, user_notification_id) > (?, ?) ORDER BY updated_at, user_notification_id
+CREATE INDEX `idx_user_notification_user_updated`
+    ON `user_notification` (`user_id`, `updated_at`, `user_notification_id`);
+
+-- WHERE user_id = ? AND (updated_at, broadcast_notification_id) > (?, ?) ORDER BY updated_at, broadcast_notification_id
+CREATE INDEX `idx_broadcast_notification_state_user_updated`
+    ON `broadcast_notification_state` (`user_id`, `updated_at`, `broadcast_notification_id`);
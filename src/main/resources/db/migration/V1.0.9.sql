@@ -0,0 +1,14 @@
+-- ====================================
+-- 생성 시각/읽음 기준 시각 밀리초 정밀도
+-- ====================================
+
+-- 초 단위로 저장하면 '모두 읽음' 기준 시각을 초 단위로 올림해야 하므로, 요청 직후 1초 안에 도착한 알림도
+-- 기준 시각 이전으로 간주되어 읽음 처리됩니다. 밀리초까지 저장하여 기준 시각을 요청 시각으로 기록합니다.
+ALTER TABLE `user_notification`
+    MODIFY COLUMN `created_at` TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
+
+ALTER TABLE `broadcast_notification`
+    MODIFY COLUMN `created_at` TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
+
+ALTER TABLE `notification_read_watermark`
+    MODIFY COLUMN `read_until` TIMESTAMP(3) NOT NULL;
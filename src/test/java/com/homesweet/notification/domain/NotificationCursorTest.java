@@ -0,0 +1,45 @@
+package com.homesweet.notification.domain;
+
+import com.homesweet.notification.exception.ErrorCode;
+import com.homesweet.notification.exception.NotificationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 해석하면 같은 위치가 된다")
+    void encode_RoundTrip() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5), 42L);
+
+        // when
+        NotificationCursor decoded = NotificationCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서를 반환한다")
+    void decode_Empty() {
+        assertThat(NotificationCursor.decode(null)).isEqualTo(NotificationCursor.FIRST);
+        assertThat(NotificationCursor.decode(" ")).isEqualTo(NotificationCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 예외가 발생한다")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> NotificationCursor.decode("%%%"))
+                .isInstanceOf(NotificationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_NOTIFICATION_CURSOR);
+        assertThatThrownBy(() -> NotificationCursor.decode("bm90LWEtY3Vyc29y"))
+                .isInstanceOf(NotificationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_NOTIFICATION_CURSOR);
+    }
+}
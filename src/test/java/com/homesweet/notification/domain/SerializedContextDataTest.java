@@ -0,0 +1,65 @@
+package com.homesweet.notification.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SerializedContextDataTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("생성 시점에 한 번 직렬화하고 Map으로도 조회할 수 있다")
+    void of_SerializesOnce() {
+        // when
+        SerializedContextData contextData = SerializedContextData.of(Map.of("orderId", 10, "name", "상품"));
+
+        // then
+        assertThat(contextData).containsEntry("orderId", 10).containsEntry("name", "상품");
+        assertThat(contextData.getOrDefault("missing", "")).isEqualTo("");
+        assertThat(contextData.json()).contains("\"orderId\":10").contains("\"name\":\"상품\"");
+    }
+
+    @Test
+    @DisplayName("원본 Map을 변경해도 직렬화된 데이터는 변하지 않는다")
+    void of_IsImmutable() {
+        // given
+        Map<String, Object> source = new HashMap<>(Map.of("key", "value"));
+        SerializedContextData contextData = SerializedContextData.of(source);
+
+        // when
+        source.put("key", "changed");
+
+        // then
+        assertThat(contextData).containsEntry("key", "value");
+        assertThatThrownBy(() -> contextData.put("key", "changed"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 메시지에는 보관된 JSON이 그대로 포함된다")
+    void serialize_EmbedsRawJson() throws Exception {
+        // given
+        SerializedContextData contextData = SerializedContextData.of(Map.of("orderId", 10));
+        PushNotificationDTO dto = PushNotificationDTO.builder()
+                .notificationId(1L)
+                .title("제목")
+                .contextData(contextData)
+                .build();
+
+        // when
+        JsonNode message = objectMapper.readTree(objectMapper.writeValueAsString(new NotificationMessage(7L, dto)));
+
+        // then
+        assertThat(message.path("data").path("contextData").path("orderId").asInt()).isEqualTo(10);
+    }
+}
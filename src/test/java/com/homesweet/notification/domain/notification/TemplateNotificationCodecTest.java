@@ -0,0 +1,54 @@
+package com.homesweet.notification.domain.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateNotificationCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static Stream<TemplateNotification> notifications() {
+        return Stream.of(
+                // eventType에 @JsonIgnore가 없는 클래스
+                OrderNotification.OrderCompleted.builder().userName("홍길동").orderId(1L).build(),
+                // eventType에 @JsonIgnore가 있는 클래스
+                OrderNotification.OrderCancelled.builder().userName("홍길동").orderId(2L).build(),
+                CommunityNotification.NewCommentLike.builder()
+                        .userName("홍길동").postId(3L).postTitle("게시글").commentId(4L).build(),
+                SettlementNotification.SettlementCompleted.builder()
+                        .userName("홍길동").settlementId(5L).amount(10_000L).settlementName("정산").build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("notifications")
+    @DisplayName("기존 ObjectMapper.convertValue 결과와 동일한 contextData를 만든다")
+    void toMap_SameAsObjectMapper(TemplateNotification notification) throws Exception {
+        // given: 기존 default 메서드 구현
+        @SuppressWarnings("unchecked")
+        Map<String, Object> expected = objectMapper.convertValue(notification, Map.class);
+        expected.remove("eventType");
+
+        // when
+        Map<String, Object> actual = notification.toMap();
+
+        // then: 숫자 타입(Integer/Long) 차이를 배제하기 위해 JSON으로 비교
+        assertThat(actual).doesNotContainKey("eventType");
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(actual)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(expected)));
+    }
+
+    @Test
+    @DisplayName("같은 클래스의 변환기는 한 번만 생성된다")
+    void forClass_IsCached() {
+        assertThat(TemplateNotificationCodec.forClass(OrderNotification.OrderCompleted.class))
+                .isSameAs(TemplateNotificationCodec.forClass(OrderNotification.OrderCompleted.class));
+    }
+}
@@ -0,0 +1,46 @@
+package com.homesweet.notification.domain.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("변수를 contextData 값으로 치환한다")
+    void render_ReplacesVariables() {
+        // given
+        String source = "{userName}님의 주문이 완료되었습니다. (주문번호: {orderId})";
+
+        // when
+        String rendered = CompiledTemplate.render(source, Map.of("userName", "홍길동", "orderId", 12345L));
+
+        // then
+        assertThat(rendered).isEqualTo("홍길동님의 주문이 완료되었습니다. (주문번호: 12345)");
+    }
+
+    @Test
+    @DisplayName("contextData에 없는 변수는 그대로 남긴다")
+    void render_KeepsMissingVariables() {
+        assertThat(CompiledTemplate.render("{userName}님, {couponName} 쿠폰", Map.of("userName", "홍길동")))
+                .isEqualTo("홍길동님, {couponName} 쿠폰");
+    }
+
+    @Test
+    @DisplayName("변수가 없거나 형식이 맞지 않는 문자열은 그대로 반환한다")
+    void render_LiteralOnly() {
+        assertThat(CompiledTemplate.render("/orders", Map.of())).isEqualTo("/orders");
+        assertThat(CompiledTemplate.render("a{}b{", Map.of())).isEqualTo("a{}b{");
+        assertThat(CompiledTemplate.render(null, Map.of())).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 템플릿 문자열은 한 번만 분석한다")
+    void compile_IsCached() {
+        assertThat(CompiledTemplate.compile("{userName}님 안녕하세요"))
+                .isSameAs(CompiledTemplate.compile("{userName}님 안녕하세요"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.homesweet.notification.repository;
+
+import com.homesweet.notification.auth.entity.OAuth2Provider;
+import com.homesweet.notification.auth.entity.User;
+import com.homesweet.notification.auth.entity.UserRole;
+import com.homesweet.notification.entity.UserNotification;
+import com.homesweet.notification.repository.impl.H2UserNotificationBulkLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ H2UserNotificationBulkLoader.class, UserNotificationIdAllocator.class })
+class UserNotificationBulkLoaderTest {
+
+    @Autowired
+    private UserNotificationBulkLoader userNotificationBulkLoader;
+
+    @Autowired
+    private UserNotificationIdAllocator idAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        userIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String uniqueId = System.nanoTime() + "_" + i;
+            User user = User.builder()
+                    .email("bulk" + uniqueId + "@example.com")
+                    .name("Bulk User " + i)
+                    .provider(OAuth2Provider.GOOGLE)
+                    .providerId("google_" + uniqueId)
+                    .role(UserRole.USER)
+                    .build();
+            entityManager.persist(user);
+            userIds.add(user.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("수신자별 알림을 한 번에 적재하고 수신자 순서대로 ID를 반환한다")
+    void load_StreamsRows() {
+        // given
+        String contextJson = "{\"title\":\"\\\"특가\\\" 안내\",\"content\":\"줄바꿈\\n포함\",\"redirectUrl\":\"/promotion\"}";
+
+        // when
+        UserNotificationBulkLoader.Loaded loaded = userNotificationBulkLoader.load(userIds, null, contextJson);
+
+        // then
+        long[] ids = loaded.notificationIds();
+        assertThat(loaded.userIds()).isEqualTo(userIds);
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        for (int i = 0; i < ids.length; i++) {
+            UserNotification saved = entityManager.find(UserNotification.class, ids[i]);
+            assertThat(saved.getUserId()).isEqualTo(userIds.get(i));
+            assertThat(saved.getTemplate()).isNull();
+            assertThat(saved.getContextData())
+                    .containsEntry("title", "\"특가\" 안내")
+                    .containsEntry("content", "줄바꿈\n포함");
+            assertThat(saved.getIsRead()).isFalse();
+            assertThat(saved.getIsDeleted()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("일부 행만 적재되면 실패로 처리하지 않고 저장된 알림만 반환한다")
+    void load_PartialLoad() {
+        // given: 적재 중 탈퇴한 수신자의 행이 건너뛰어지는 적재기 (MySQL LOAD DATA LOCAL의 외래 키 위반)
+        Long withdrawn = userIds.get(1);
+        UserNotificationBulkLoader partialLoader = new H2UserNotificationBulkLoader(jdbcTemplate, idAllocator) {
+            @Override
+            protected long loadRows(InputStream rows) throws IOException {
+                long loaded = super.loadRows(rows);
+                return loaded - jdbcTemplate.update("DELETE FROM user_notification WHERE user_id = ?", withdrawn);
+            }
+        };
+
+        // when
+        UserNotificationBulkLoader.Loaded loaded = partialLoader.load(userIds, null, "{\"title\":\"공지\"}");
+
+        // then
+        assertThat(loaded.userIds()).containsExactly(userIds.get(0), userIds.get(2));
+        assertThat(loaded.size()).isEqualTo(2);
+        for (int i = 0; i < loaded.size(); i++) {
+            UserNotification saved = entityManager.find(UserNotification.class, loaded.notificationIds()[i]);
+            assertThat(saved.getUserId()).isEqualTo(loaded.userIds().get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("구분자 문자가 그대로 들어간 JSON은 적재하지 않는다")
+    void load_RejectsRawSeparators() {
+        assertThatThrownBy(() -> userNotificationBulkLoader.load(userIds, null, "{\"title\":\"a\tb\"}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("행 스트림은 행 고유 컬럼과 공유 컬럼을 탭으로 이어 붙인다")
+    void rowStream_Format() throws IOException {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 18, 9, 30, 0, 123_456_789);
+        UserNotificationRowStream rows = new UserNotificationRowStream(
+                new long[] { 10L, 11L }, List.of(1L, 2L), 7L, "{\"k\":\"v\"}", createdAt);
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rows.transferTo(out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "10\t1\t7\t{\"k\":\"v\"}\t0\t0\t2025-11-18 09:30:00.123\n"
+                        + "11\t2\t7\t{\"k\":\"v\"}\t0\t0\t2025-11-18 09:30:00.123\n");
+    }
+}
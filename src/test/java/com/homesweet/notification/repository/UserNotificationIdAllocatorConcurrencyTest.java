@@ -0,0 +1,119 @@
+package com.homesweet.notification.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.entity.UserNotification;
+import com.homesweet.notification.repository.impl.H2UserNotificationJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀이 작을 때 saveAll 동시 호출 시 ID 블록 예약이 교착되지 않는지 검증
+ */
+class UserNotificationIdAllocatorConcurrencyTest {
+
+    private static final String URL = "jdbc:h2:mem:allocator-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 5;
+
+    private HikariDataSource pool;
+    private HikariDataSource sequencePool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private UserNotificationJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        pool = dataSource("app", 2);
+        sequencePool = dataSource("id-allocator", 1);
+
+        jdbcTemplate = new JdbcTemplate(pool);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_sequence ("
+                + "sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_notification ("
+                + "user_notification_id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + "notification_template_id BIGINT, context_data JSON NOT NULL, "
+                + "is_read BOOLEAN NOT NULL, is_deleted BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("DELETE FROM user_notification");
+        jdbcTemplate.execute("DELETE FROM id_sequence");
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(pool));
+        // 블록 크기 1: 저장할 때마다 예약이 일어나도록
+        UserNotificationIdAllocator idAllocator = new UserNotificationIdAllocator(sequencePool, 1);
+        repository = new H2UserNotificationJdbcRepository(jdbcTemplate, new ObjectMapper(), idAllocator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_notification");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_sequence");
+        sequencePool.close();
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("풀 크기 2에서 saveAll을 동시에 호출해도 교착 없이 모두 저장된다")
+    void saveAll_ConcurrentWithSmallPool() throws Exception {
+        Map<String, Object> contextData = SerializedContextData.of(Map.of("title", "제목"));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                long userId = t + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<UserNotification> notifications = new ArrayList<>();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        notifications.add(UserNotification.forRecipient(userId, null, contextData));
+                    }
+                    // 서비스의 @Transactional처럼 풀 커넥션을 가진 채로 ID를 할당
+                    transactionTemplate.executeWithoutResult(status -> repository.saveAll(notifications, 2));
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_notification", Long.class);
+        Long distinctIds = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_notification_id) FROM user_notification", Long.class);
+        assertThat(rows).isEqualTo((long) THREADS * PER_THREAD);
+        assertThat(distinctIds).isEqualTo(rows);
+    }
+
+    private static HikariDataSource dataSource(String poolName, int size) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(URL);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setConnectionTimeout(2000);
+        return dataSource;
+    }
+}
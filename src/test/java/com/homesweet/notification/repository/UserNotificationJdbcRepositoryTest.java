@@ -29,12 +29,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // 설정 파일의 DataSource를 사용하도록 설정
-@Import({ H2UserNotificationJdbcRepository.class, ObjectMapper.class })
+@Import({ H2UserNotificationJdbcRepository.class, UserNotificationIdAllocator.class, ObjectMapper.class })
 class UserNotificationJdbcRepositoryTest {
 
     @Autowired
     private UserNotificationJdbcRepository userNotificationJdbcRepository;
 
+    @Autowired
+    private UserNotificationIdAllocator idAllocator;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -108,4 +111,45 @@ class UserNotificationJdbcRepositoryTest {
 
         assertThat(saved).hasSize(count);
     }
+
+    @Test
+    @DisplayName("배치 크기보다 많은 알림은 여러 JDBC 배치로 나누어 저장하고, 템플릿이 없는 알림도 저장한다")
+    void saveAll_MultipleBatchesWithCustomNotification() {
+        // given
+        Map<String, Object> contextData = Map.of("title", "공지", "content", "점검 안내");
+        List<UserNotification> notifications = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            notifications.add(UserNotification.forRecipient(testUser.getId(), null, contextData));
+        }
+
+        // when
+        userNotificationJdbcRepository.saveAll(notifications, 3);
+
+        // then
+        List<UserNotification> saved = entityManager.getEntityManager()
+                .createQuery("select un from UserNotification un where un.user.id = :userId", UserNotification.class)
+                .setParameter("userId", testUser.getId())
+                .getResultList();
+
+        assertThat(saved).hasSize(7);
+        assertThat(saved).allSatisfy(n -> {
+            assertThat(n.getTemplate()).isNull();
+            assertThat(n.getContextData()).containsEntry("title", "공지");
+            assertThat(n.getIsRead()).isFalse();
+            assertThat(n.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("블록 크기보다 많은 ID를 요청해도 중복 없이 오름차순으로 할당한다")
+    void allocate_AcrossBlocks() {
+        // when
+        long[] first = idAllocator.allocate(1_500);
+        long[] second = idAllocator.allocate(10);
+
+        // then
+        assertThat(first).hasSize(1_500).doesNotHaveDuplicates().isSorted();
+        assertThat(second).doesNotHaveDuplicates().isSorted();
+        assertThat(second[0]).isGreaterThan(first[first.length - 1]);
+    }
 }
@@ -0,0 +1,112 @@
+package com.homesweet.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.SerializedContextData;
+import com.homesweet.notification.dto.BroadcastMessage;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationMessageCodecTest {
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 11, 18, 10, 30, 15, 123_456_789);
+
+    private PushNotificationDTO notification() {
+        return PushNotificationDTO.builder()
+                .notificationId(1_234_567L)
+                .title("주문 완료")
+                .content("홍길동님, 주문이 완료되었습니다.")
+                .redirectUrl("/orders/20251118")
+                .contextData(SerializedContextData.of(Map.of("orderId", 20251118)))
+                .isRead(true)
+                .categoryType(NotificationCategoryType.ORDER)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("개인 알림은 인코딩 후 해석하면 같은 값이 된다 (createdAt은 밀리초 단위)")
+    void userMessage_RoundTrip() {
+        // when
+        byte[] encoded = NotificationMessageCodec.encode(new NotificationMessage(7L, notification()));
+        NotificationMessage decoded = (NotificationMessage) NotificationMessageCodec.decode(encoded);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(NotificationMessageCodec.VERSION);
+        assertThat(decoded.getUserId()).isEqualTo(7L);
+        PushNotificationDTO data = decoded.getData();
+        assertThat(data.getNotificationId()).isEqualTo(1_234_567L);
+        assertThat(data.getTitle()).isEqualTo("주문 완료");
+        assertThat(data.getContent()).isEqualTo("홍길동님, 주문이 완료되었습니다.");
+        assertThat(data.getRedirectUrl()).isEqualTo("/orders/20251118");
+        assertThat(data.getContextData()).containsEntry("orderId", 20251118);
+        assertThat(data.isRead()).isTrue();
+        assertThat(data.getCategoryType()).isEqualTo(NotificationCategoryType.ORDER);
+        assertThat(data.getCreatedAt()).isEqualTo(createdAt.withNano(123_000_000));
+    }
+
+    @Test
+    @DisplayName("값이 없는 필드는 기록하지 않고 해석해도 null이다")
+    void broadcastMessage_NullFields() {
+        // given
+        PushNotificationDTO notification = PushNotificationDTO.builder().title("점검 안내").build();
+
+        // when
+        byte[] encoded = NotificationMessageCodec.encode(new BroadcastMessage(BroadcastAudience.SELLER, notification));
+        BroadcastMessage decoded = (BroadcastMessage) NotificationMessageCodec.decode(encoded);
+
+        // then
+        assertThat(decoded.getAudience()).isEqualTo(BroadcastAudience.SELLER);
+        assertThat(decoded.getData().getTitle()).isEqualTo("점검 안내");
+        assertThat(decoded.getData().getNotificationId()).isNull();
+        assertThat(decoded.getData().getContextData()).isNull();
+        assertThat(decoded.getData().getCategoryType()).isNull();
+        assertThat(decoded.getData().getCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 메시지의 JSON보다 작다")
+    void encode_SmallerThanJson() throws Exception {
+        // given: RedisConfig의 redisObjectTemplate과 같은 JSON 설정
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        NotificationMessage message = new NotificationMessage(7L, notification());
+
+        // when
+        int json = objectMapper.writeValueAsBytes(message).length;
+        int binary = NotificationMessageCodec.encode(message).length;
+
+        // then
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이나 잘린 메시지는 해석하지 않는다")
+    void decode_Invalid() {
+        // given
+        byte[] encoded = NotificationMessageCodec.encode(new NotificationMessage(7L, notification()));
+        byte[] otherVersion = encoded.clone();
+        otherVersion[0] = 2;
+
+        // when & then
+        assertThatThrownBy(() -> NotificationMessageCodec.decode(otherVersion))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationMessageCodec.decode(Arrays.copyOf(encoded, encoded.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationMessageCodec.encode("message"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.homesweet.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.service.impl.PushCircuitBreaker;
+import com.homesweet.notification.service.impl.PushPresenceRegistry;
+import com.homesweet.notification.service.impl.PushSpilloverQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STREAM 모드 발행을 실제 Redis 호환 서버에서 확인합니다. (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationPublisherStreamIT {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final String GROUP = "gateway";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate reader;
+    private NotificationPublisher notificationPublisher;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // RedisConfig의 redisObjectTemplate과 같은 직렬화 설정
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, Object.class));
+        redisTemplate.afterPropertiesSet();
+
+        reader = new StringRedisTemplate(connectionFactory);
+        reader.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        notificationPublisher = new NotificationPublisher(redisTemplate, new PushPresenceRegistry(reader),
+                new PushCircuitBreaker(meterRegistry, 3, 5000),
+                new PushSpilloverQueue(meterRegistry, false, "unused", 1 << 20, 1 << 20), meterRegistry);
+        ReflectionTestUtils.setField(notificationPublisher, "mode", NotificationPublisher.Mode.STREAM);
+        ReflectionTestUtils.setField(notificationPublisher, "format", NotificationPublisher.Format.JSON);
+        ReflectionTestUtils.setField(notificationPublisher, "shardCount", 1);
+        ReflectionTestUtils.setField(notificationPublisher, "streamMaxLength", 100_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private static List<NotificationMessage> messages(int count) {
+        List<NotificationMessage> messages = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            messages.add(new NotificationMessage(id, PushNotificationDTO.builder().notificationId(id).title("알림").build()));
+        }
+        return messages;
+    }
+
+    private List<MapRecord<String, Object, Object>> read(String consumer, ReadOffset offset) {
+        return reader.opsForStream().read(Consumer.from(GROUP, consumer), StreamReadOptions.empty().count(100),
+                StreamOffset.create("notification:stream:0", offset));
+    }
+
+    @Test
+    @DisplayName("컨슈머 그룹으로 읽고 ACK 하지 않은 메시지는 재시작한 게이트웨이가 다시 받는다")
+    void stream_ConsumerGroupResume() {
+        // given
+        reader.opsForStream().createGroup("notification:stream:0", ReadOffset.from("0"), GROUP);
+        notificationPublisher.publishAll(messages(5));
+
+        // when: 3개만 처리(ACK)하고 종료
+        List<MapRecord<String, Object, Object>> delivered = read("gateway-1", ReadOffset.lastConsumed());
+        reader.opsForStream().acknowledge("notification:stream:0", GROUP,
+                delivered.subList(0, 3).stream().map(MapRecord::getId).toArray(RecordId[]::new));
+
+        // 종료 중에 발행된 메시지
+        notificationPublisher.publish(6L, PushNotificationDTO.builder().notificationId(6L).build());
+
+        // then: 재시작 후 미처리 메시지(pending)부터 이어서 받음
+        assertThat(delivered).hasSize(5);
+        assertThat(delivered.get(0).getValue()).containsKey("payload");
+        assertThat(read("gateway-1", ReadOffset.from("0"))).hasSize(2);
+        assertThat(read("gateway-1", ReadOffset.lastConsumed())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("스트림 길이는 max-length 근처로 제한된다")
+    void stream_Capped() {
+        // given
+        ReflectionTestUtils.setField(notificationPublisher, "streamMaxLength", 100L);
+
+        // when
+        notificationPublisher.publishAll(messages(1_000));
+
+        // then
+        Long length = reader.opsForStream().size("notification:stream:0");
+        assertThat(length).isBetween(100L, 999L);
+    }
+
+    @Test
+    @DisplayName("전체 발송 알림은 공용 스트림에 추가된다")
+    void stream_Broadcast() {
+        // when
+        notificationPublisher.publishBroadcast(BroadcastAudience.ALL, PushNotificationDTO.builder().notificationId(1L).build());
+
+        // then
+        assertThat(reader.opsForStream().size("notification:stream:broadcast")).isEqualTo(1L);
+    }
+}
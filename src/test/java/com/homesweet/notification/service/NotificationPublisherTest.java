@@ -0,0 +1,302 @@
+package com.homesweet.notification.service;
+
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.service.impl.PushCircuitBreaker;
+import com.homesweet.notification.service.impl.PushPresenceRegistry;
+import com.homesweet.notification.service.impl.PushSpilloverQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisSerializer<Object> valueSerializer;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    @Mock
+    private PushPresenceRegistry presenceRegistry;
+
+    @Mock
+    private PushSpilloverQueue spilloverQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PushCircuitBreaker circuitBreaker;
+    private NotificationPublisher notificationPublisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new PushCircuitBreaker(meterRegistry, 1, 60_000);
+        notificationPublisher = new NotificationPublisher(redisTemplate, presenceRegistry, circuitBreaker,
+                spilloverQueue, meterRegistry);
+        ReflectionTestUtils.setField(notificationPublisher, "mode", NotificationPublisher.Mode.PUBSUB);
+        ReflectionTestUtils.setField(notificationPublisher, "format", NotificationPublisher.Format.JSON);
+        ReflectionTestUtils.setField(notificationPublisher, "shardCount", 4);
+    }
+
+    @Test
+    @DisplayName("사용자 ID의 샤드는 항상 같고, 연속된 ID는 샤드에 고르게 나뉜다")
+    void shardOf_StableAndSpread() {
+        // when
+        Map<Integer, Integer> counts = new HashMap<>();
+        IntStream.rangeClosed(1, 10_000)
+                .forEach(userId -> counts.merge(NotificationPublisher.shardOf(userId, 16), 1, Integer::sum));
+
+        // then
+        assertThat(NotificationPublisher.shardOf(42L, 16)).isEqualTo(NotificationPublisher.shardOf(42L, 16));
+        assertThat(counts).hasSize(16);
+        assertThat(counts.values()).allMatch(count -> count > 500 && count < 750);
+        assertThatThrownBy(() -> NotificationPublisher.shardOf(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("단건 발행은 수신자의 샤드 채널로 보낸다")
+    @SuppressWarnings("unchecked")
+    void publish_ToShardChannel() {
+        // given
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        given(valueSerializer.serialize(any(NotificationMessage.class))).willReturn(new byte[] { 1 });
+        givenPipeline();
+
+        // when
+        notificationPublisher.publish(7L, PushNotificationDTO.builder().notificationId(1L).build());
+
+        // then
+        verify(connection).publish(eq(("notification:push:" + NotificationPublisher.shardOf(7L, 4))
+                .getBytes(StandardCharsets.UTF_8)), eq(new byte[] { 1 }));
+        verifyNoInteractions(spilloverQueue);
+    }
+
+    @Test
+    @DisplayName("BINARY 형식이면 바이너리로 인코딩해 수신자의 샤드 채널로 보낸다")
+    void publish_BinaryFormat() {
+        // given
+        ReflectionTestUtils.setField(notificationPublisher, "format", NotificationPublisher.Format.BINARY);
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        givenPipeline();
+
+        // when
+        notificationPublisher.publish(7L, PushNotificationDTO.builder().notificationId(1L).build());
+
+        // then
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(eq(("notification:push:" + NotificationPublisher.shardOf(7L, 4))
+                .getBytes(StandardCharsets.UTF_8)), payload.capture());
+        NotificationMessage decoded = (NotificationMessage) NotificationMessageCodec.decode(payload.getValue());
+        assertThat(decoded.getUserId()).isEqualTo(7L);
+        assertThat(decoded.getData().getNotificationId()).isEqualTo(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("여러 메시지는 하나의 파이프라인에서 수신자의 샤드 채널별로 발행한다")
+    void publishAll_GroupedByShard() {
+        // given
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        given(valueSerializer.serialize(any())).willReturn(new byte[0]);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        List<NotificationMessage> messages = new ArrayList<>();
+        for (long userId = 1; userId <= 20; userId++) {
+            messages.add(new NotificationMessage(userId, PushNotificationDTO.builder().notificationId(userId).build()));
+        }
+
+        // when
+        notificationPublisher.publishAll(messages);
+
+        // then
+        ArgumentCaptor<byte[]> channels = ArgumentCaptor.forClass(byte[].class);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection, times(20)).publish(channels.capture(), any(byte[].class));
+        List<String> expected = messages.stream()
+                .map(message -> "notification:push:" + NotificationPublisher.shardOf(message.getUserId(), 4))
+                .toList();
+        assertThat(channels.getAllValues())
+                .extracting(channel -> new String(channel, StandardCharsets.UTF_8))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("푸시 연결이 없는 사용자의 메시지는 발행하지 않고 생략 수를 기록한다")
+    void publishAll_SkipsOffline() {
+        // given
+        given(presenceRegistry.offline(List.of(1L, 2L, 3L, 1L))).willReturn(Set.of(2L, 3L));
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        given(valueSerializer.serialize(any())).willReturn(new byte[0]);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        List<NotificationMessage> messages = new ArrayList<>();
+        for (long userId : new long[] { 1L, 2L, 3L, 1L }) {
+            messages.add(new NotificationMessage(userId, PushNotificationDTO.builder().notificationId(userId).build()));
+        }
+
+        // when
+        notificationPublisher.publishAll(messages);
+
+        // then
+        verify(connection, times(2)).publish(eq(("notification:push:" + NotificationPublisher.shardOf(1L, 4))
+                .getBytes(StandardCharsets.UTF_8)), any(byte[].class));
+        assertThat(meterRegistry.counter("notification.push.published").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("notification.push.skipped", "reason", "offline").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("STREAM 모드에서는 연결 상태를 확인하지 않고 모든 메시지를 스트림에 추가한다")
+    void publishAll_StreamIgnoresPresence() {
+        // given
+        ReflectionTestUtils.setField(notificationPublisher, "mode", NotificationPublisher.Mode.STREAM);
+        ReflectionTestUtils.setField(notificationPublisher, "streamMaxLength", 1000L);
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        given(valueSerializer.serialize(any())).willReturn(new byte[0]);
+        given(connection.streamCommands()).willReturn(streamCommands);
+        givenPipeline();
+
+        List<NotificationMessage> messages = List.of(
+                new NotificationMessage(1L, PushNotificationDTO.builder().notificationId(1L).build()),
+                new NotificationMessage(2L, PushNotificationDTO.builder().notificationId(2L).build()));
+
+        // when
+        notificationPublisher.publishAll(messages);
+
+        // then
+        verifyNoInteractions(presenceRegistry);
+        verify(streamCommands, times(2)).xAdd(any(), any());
+        assertThat(meterRegistry.counter("notification.push.published").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("수신자가 모두 오프라인이면 Redis로 발행하지 않는다")
+    void publishAll_AllOffline() {
+        // given
+        given(presenceRegistry.offline(List.of(1L))).willReturn(Set.of(1L));
+
+        // when
+        notificationPublisher.publishAll(List.of(new NotificationMessage(1L, PushNotificationDTO.builder().build())));
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        assertThat(meterRegistry.counter("notification.push.skipped", "reason", "offline").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Redis 발행에 실패하면 로컬 대기열에 보관하고, 서킷이 차단되면 Redis를 호출하지 않는다")
+    void publish_SpillsWhenRedisFails() {
+        // given
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        given(valueSerializer.serialize(any())).willReturn(new byte[] { 1 });
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        notificationPublisher.publish(7L, PushNotificationDTO.builder().notificationId(1L).build());
+        notificationPublisher.publish(8L, PushNotificationDTO.builder().notificationId(2L).build());
+
+        // then
+        ArgumentCaptor<List<PushSpilloverQueue.Frame>> spilled = ArgumentCaptor.forClass(List.class);
+        verify(spilloverQueue, times(2)).append(spilled.capture());
+        assertThat(spilled.getAllValues()).allSatisfy(frames -> assertThat(frames).hasSize(1));
+        assertThat(circuitBreaker.state()).isEqualTo(PushCircuitBreaker.State.OPEN);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("보관된 메시지는 저장된 발행 대상으로 다시 발행한 뒤 대기열에서 제거한다")
+    void drainSpillover_ReplaysAndCommits() {
+        // given
+        byte[] destination = "notification:push:1".getBytes(StandardCharsets.UTF_8);
+        PushSpilloverQueue.Batch batch = new PushSpilloverQueue.Batch(1L, 100,
+                List.of(new PushSpilloverQueue.Frame(destination, new byte[] { 1 })));
+        given(spilloverQueue.hasPending()).willReturn(true, false);
+        given(spilloverQueue.peek(anyInt())).willReturn(batch);
+        givenPipeline();
+
+        // when
+        notificationPublisher.drainSpillover();
+
+        // then
+        verify(connection).publish(destination, new byte[] { 1 });
+        verify(spilloverQueue).commit(batch);
+    }
+
+    @Test
+    @DisplayName("다시 발행에 실패하면 대기열에 남겨 두고 다음 주기에 시도한다")
+    void drainSpillover_KeepsOnFailure() {
+        // given
+        PushSpilloverQueue.Batch batch = new PushSpilloverQueue.Batch(1L, 100,
+                List.of(new PushSpilloverQueue.Frame(new byte[] { 1 }, new byte[] { 1 })));
+        given(spilloverQueue.hasPending()).willReturn(true);
+        given(spilloverQueue.peek(anyInt())).willReturn(batch);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        notificationPublisher.drainSpillover();
+
+        // then
+        verify(spilloverQueue, never()).commit(any());
+        assertThat(circuitBreaker.state()).isEqualTo(PushCircuitBreaker.State.OPEN);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPipeline() {
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.homesweet.notification.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BulkLoadWatermarkTest {
+
+    private static final String KEY = "notification:bulk-load:in-flight";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private BulkLoadWatermark watermark;
+
+    @BeforeEach
+    void setUp() {
+        watermark = new BulkLoadWatermark(stringRedisTemplate);
+        ReflectionTestUtils.setField(watermark, "maxInFlightMillis", 600_000L);
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 진행 중으로 기록하고 끝나면 지운다")
+    void track_RegistersAndReleases() {
+        // when
+        String result = watermark.track(() -> {
+            verify(zSetOperations).add(eq(KEY), anyString(), anyDouble());
+            return "loaded";
+        });
+
+        // then
+        ArgumentCaptor<String> member = ArgumentCaptor.forClass(String.class);
+        verify(zSetOperations).add(eq(KEY), member.capture(), anyDouble());
+        verify(zSetOperations).remove(KEY, member.getValue());
+        assertThat(result).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("기록에 실패해도 적재는 진행한다")
+    void track_RedisFailure() {
+        // given
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(zSetOperations).add(eq(KEY), anyString(), anyDouble());
+
+        // when & then
+        assertThat(watermark.track(() -> "loaded")).isEqualTo("loaded");
+        verify(zSetOperations, never()).remove(eq(KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("가장 오래된 진행 중 적재의 시작 시각을 반환한다")
+    void oldestInFlight() {
+        // given
+        long startedAt = System.currentTimeMillis() - 10_000;
+        given(zSetOperations.rangeWithScores(KEY, 0, 0))
+                .willReturn(Set.of(new DefaultTypedTuple<>("load", (double) startedAt)));
+
+        // when & then
+        assertThat(watermark.oldestInFlight())
+                .isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAt), ZoneId.systemDefault()));
+        verify(zSetOperations).removeRangeByScore(eq(KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+
+    @Test
+    @DisplayName("진행 중인 적재가 없으면 null")
+    void oldestInFlight_None() {
+        given(zSetOperations.rangeWithScores(KEY, 0, 0)).willReturn(Set.of());
+
+        assertThat(watermark.oldestInFlight()).isNull();
+    }
+}
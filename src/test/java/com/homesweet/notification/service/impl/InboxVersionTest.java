@@ -0,0 +1,78 @@
+package com.homesweet.notification.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InboxVersionTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private InboxVersion inboxVersion;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        inboxVersion = new InboxVersion(stringRedisTemplate);
+        ReflectionTestUtils.setField(inboxVersion, "ttlSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("사용자 버전과 공용 버전을 합쳐 ETag를 만든다")
+    void current_CombinesVersions() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:inbox-version:1", "notification:inbox-version:broadcast")),
+                any(Object[].class)))
+                .willReturn(List.of("1700000000005", "1700000000000"));
+
+        // when & then
+        assertThat(inboxVersion.current(userId)).isEqualTo("1700000000005-1700000000000");
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 ETag를 만들지 않는다")
+    void current_RedisUnavailable() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(inboxVersion.current(userId)).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 버전 증가를 바로 반영하고, 실패해도 예외를 전파하지 않는다")
+    void bump_WithoutTransaction() {
+        // given
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        inboxVersion.bumpAfterCommit(List.of(1L, 2L, 1L));
+        inboxVersion.bumpAfterCommit(List.of());
+
+        // then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
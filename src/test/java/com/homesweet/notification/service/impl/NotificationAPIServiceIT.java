@@ -4,17 +4,30 @@ import com.homesweet.notification.auth.entity.OAuth2Provider;
 import com.homesweet.notification.auth.entity.User;
 import com.homesweet.notification.auth.entity.UserRole;
 import com.homesweet.notification.auth.repository.UserRepository;
+import com.homesweet.notification.domain.BroadcastAudience;
 import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.NotificationCursor;
 import com.homesweet.notification.domain.NotificationTemplateType;
+import com.homesweet.notification.domain.event.NotificationReadAllEvent;
+import com.homesweet.notification.dto.NotificationChangesDTO;
+import com.homesweet.notification.dto.NotificationPageDTO;
 import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.entity.BroadcastNotification;
 import com.homesweet.notification.entity.NotificationCategory;
 import com.homesweet.notification.entity.NotificationTemplate;
 import com.homesweet.notification.entity.UserNotification;
 import com.homesweet.notification.exception.ErrorCode;
 import com.homesweet.notification.exception.NotificationException;
 import com.homesweet.notification.repository.NotificationCategoryRepository;
+import com.homesweet.notification.repository.NotificationReadWatermarkRepository;
 import com.homesweet.notification.repository.NotificationTemplateRepository;
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
 import com.homesweet.notification.repository.UserNotificationRepository;
+import com.homesweet.notification.repository.impl.H2UserNotificationBulkLoader;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,18 +36,27 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "notification.changes.settle-seconds=0" })
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(NotificationAPIService.class)
+@Import({ NotificationAPIService.class, BroadcastNotificationService.class, UserNotificationIdAllocator.class,
+        H2UserNotificationBulkLoader.class })
 @Transactional
 class NotificationAPIServiceIT {
 
@@ -58,11 +80,42 @@ class NotificationAPIServiceIT {
     @Autowired
     private UserNotificationRepository userNotificationRepository;
 
+    @Autowired
+    private BroadcastNotificationService broadcastNotificationService;
+
+    @Autowired
+    private NotificationReadWatermarkRepository readWatermarkRepository;
+
+    @Autowired
+    private UserNotificationBulkLoader userNotificationBulkLoader;
+
+    @Autowired
+    private UserNotificationIdAllocator idAllocator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @MockitoBean
+    private NotificationTimelineCache timelineCache;
+
+    @MockitoBean
+    private InboxVersion inboxVersion;
+
+    @MockitoBean
+    private BulkLoadWatermark bulkLoadWatermark;
+
     private User testUser;
     private NotificationTemplate testTemplate;
 
     @BeforeEach
     void setUp() {
+        // 타임라인 캐시 없이 DB 조회 결과를 사용
+        given(timelineCache.getOrLoad(any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<PushNotificationDTO>>>getArgument(1).get());
+
         // 1. 테스트 사용자 생성
         testUser = User.builder()
                 .email("it_repo_test@example.com")
@@ -73,11 +126,14 @@ class NotificationAPIServiceIT {
                 .build();
         userRepository.save(testUser);
 
-        // 2. 카테고리 생성
-        NotificationCategory category = NotificationCategory.builder()
-                .categoryType(NotificationCategoryType.ORDER)
-                .build();
-        categoryRepository.save(category);
+        // 2. 카테고리 생성 (운영 데이터와 같이 카테고리 ID는 카테고리 타입의 ID로 고정)
+        entityManager.createNativeQuery(
+                "INSERT INTO notification_category (notification_category_id, category_name) VALUES (?, ?)")
+                .setParameter(1, NotificationCategoryType.ORDER.getCategoryId())
+                .setParameter(2, NotificationCategoryType.ORDER.name())
+                .executeUpdate();
+        NotificationCategory category = categoryRepository.findById(NotificationCategoryType.ORDER.getCategoryId())
+                .orElseThrow();
 
         // 3. 템플릿 생성
         testTemplate = NotificationTemplate.builder()
@@ -90,6 +146,15 @@ class NotificationAPIServiceIT {
         templateRepository.save(testTemplate);
     }
 
+    /**
+     * 알림 ID를 할당해 저장합니다. (알림 ID는 애플리케이션에서 할당)
+     */
+    private UserNotification save(UserNotification notification) {
+        notification.setId(idAllocator.nextId());
+        entityManager.persist(notification);
+        return notification;
+    }
+
     @Test
     @DisplayName("사용자의 최신 알림 목록 20개를 Repository를 통해 조회한다")
     void getAllNotifications_WithRepository() {
@@ -100,7 +165,7 @@ class NotificationAPIServiceIT {
                     .template(testTemplate)
                     .contextData(Map.of("orderId", i))
                     .build();
-            userNotificationRepository.save(notification);
+            save(notification);
         }
 
         // when
@@ -111,6 +176,35 @@ class NotificationAPIServiceIT {
         assertThat(result.get(0).getTitle()).isEqualTo("주문 완료");
     }
 
+    @Test
+    @DisplayName("알림함 조회 전체가 엔티티를 적재하지 않고 네 번의 SQL로 끝난다")
+    void getAllNotifications_StatementCount() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            save(UserNotification.builder()
+                    .user(testUser)
+                    .template(testTemplate)
+                    .contextData(Map.of("orderId", i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<PushNotificationDTO> result = notificationAPIService.getAllNotifications(testUser.getId());
+
+        // then: 개인 알림(템플릿/카테고리 조인 포함), 읽음 기준 시각, 사용자 역할, 전체 발송 알림
+        // (받은 전체 발송 알림이 있으면 읽음/삭제 상태 조회 한 번이 추가됨)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(result).hasSize(5)
+                .allMatch(dto -> dto.getCategoryType() == NotificationCategoryType.ORDER)
+                .allMatch(dto -> dto.getTitle().equals("주문 완료"));
+    }
+
     @Test
     @DisplayName("Repository를 사용하여 알림들을 읽음 처리한다")
     void markAsRead_WithRepository() {
@@ -127,7 +221,8 @@ class NotificationAPIServiceIT {
                 .contextData(Map.of())
                 .isRead(false)
                 .build();
-        userNotificationRepository.saveAll(List.of(n1, n2));
+        save(n1);
+        save(n2);
 
         List<Long> ids = List.of(n1.getId(), n2.getId());
 
@@ -151,7 +246,7 @@ class NotificationAPIServiceIT {
                 .contextData(Map.of())
                 .isDeleted(false)
                 .build();
-        userNotificationRepository.save(n1);
+        save(n1);
 
         // when
         notificationAPIService.markAsDeleted(testUser.getId(), List.of(n1.getId()));
@@ -170,4 +265,238 @@ class NotificationAPIServiceIT {
                 .isInstanceOf(NotificationException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("대상에 해당하는 전체 발송 알림을 알림함에 합치고, 읽음/삭제 상태를 사용자별로 기록한다")
+    void broadcast_MergedIntoInbox() {
+        // given
+        BroadcastNotification forAll = broadcastNotificationService.saveBroadcast(
+                testTemplate, Map.of("orderId", 1), BroadcastAudience.ALL);
+        BroadcastNotification forSeller = broadcastNotificationService.saveBroadcast(
+                testTemplate, Map.of("orderId", 2), BroadcastAudience.SELLER);
+
+        // when & then: 일반 사용자는 전체 대상 알림만 받음
+        List<PushNotificationDTO> inbox = notificationAPIService.getAllNotifications(testUser.getId());
+        assertThat(inbox).extracting(PushNotificationDTO::getNotificationId)
+                .contains(forAll.getId())
+                .doesNotContain(forSeller.getId());
+        assertThat(inbox).filteredOn(dto -> dto.getNotificationId().equals(forAll.getId()))
+                .allMatch(dto -> !dto.isRead());
+
+        // when & then: 읽음 처리
+        notificationAPIService.markAsRead(testUser.getId(), List.of(forAll.getId()));
+        assertThat(notificationAPIService.getAllNotifications(testUser.getId()))
+                .filteredOn(dto -> dto.getNotificationId().equals(forAll.getId()))
+                .singleElement()
+                .matches(PushNotificationDTO::isRead);
+
+        // when & then: 삭제 처리
+        notificationAPIService.markAsDeleted(testUser.getId(), List.of(forAll.getId()));
+        assertThat(notificationAPIService.getAllNotifications(testUser.getId()))
+                .extracting(PushNotificationDTO::getNotificationId)
+                .doesNotContain(forAll.getId());
+
+        // 대상이 아닌 전체 발송 알림은 처리할 수 없음
+        assertThatThrownBy(() -> notificationAPIService.markAsRead(testUser.getId(), List.of(forSeller.getId())))
+                .isInstanceOf(NotificationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 시 기준 시각 이전 알림을 읽음으로 조회하고, 백그라운드 반영 후 행도 읽음 상태가 된다")
+    void markAllAsRead_WithWatermark() {
+        // given
+        UserNotification n1 = UserNotification.builder()
+                .user(testUser)
+                .template(testTemplate)
+                .contextData(Map.of())
+                .isRead(false)
+                .build();
+        save(n1);
+        BroadcastNotification broadcast = broadcastNotificationService.saveBroadcast(
+                testTemplate, Map.of("orderId", 1), BroadcastAudience.ALL);
+
+        // when
+        notificationAPIService.markAllAsRead(testUser.getId());
+
+        // then: 조회 시 기준 시각이 적용됨
+        assertThat(notificationAPIService.getAllNotifications(testUser.getId()))
+                .extracting(PushNotificationDTO::getNotificationId)
+                .contains(n1.getId(), broadcast.getId());
+        assertThat(notificationAPIService.getAllNotifications(testUser.getId()))
+                .allMatch(PushNotificationDTO::isRead);
+
+        // then: 백그라운드 반영 (테스트 트랜잭션은 커밋되지 않으므로 직접 호출)
+        LocalDateTime readUntil = readWatermarkRepository.findReadUntilByUserId(testUser.getId()).orElseThrow();
+        new NotificationReadAllMaterializer(userNotificationRepository)
+                .handleReadAllEvent(new NotificationReadAllEvent(testUser.getId(), readUntil));
+        assertThat(userNotificationRepository.findById(n1.getId()).orElseThrow().getIsRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 개인 알림과 전체 발송 알림을 중복/누락 없이 페이지로 나눈다")
+    void getPage_WithCursor() {
+        // given: 생성 시각이 같은 알림이 있어도 ID로 순서를 정함
+        for (int i = 1; i <= 25; i++) {
+            save(UserNotification.builder()
+                    .user(testUser)
+                    .template(testTemplate)
+                    .contextData(Map.of("orderId", i))
+                    .build());
+        }
+        broadcastNotificationService.saveBroadcast(testTemplate, Map.of("orderId", 0), BroadcastAudience.ALL);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        NotificationPageDTO page;
+        do {
+            page = notificationAPIService.getPage(testUser.getId(), cursor, 10, null);
+            page.getNotifications().forEach(notification -> ids.add(notification.getNotificationId()));
+            pageSizes.add(page.getNotifications().size());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // then
+        assertThat(pageSizes).containsExactly(10, 10, 6);
+        assertThat(ids).hasSize(26).doesNotHaveDuplicates();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("카테고리로 페이지를 조회하면 해당 카테고리 알림만 반환한다")
+    void getPage_ByCategory() {
+        // given
+        save(UserNotification.builder()
+                .user(testUser)
+                .template(testTemplate)
+                .contextData(Map.of("orderId", 1))
+                .build());
+        save(UserNotification.builder()
+                .user(testUser)
+                .contextData(Map.of("title", "공지", "content", "내용"))
+                .build());
+
+        // when
+        NotificationPageDTO orders = notificationAPIService.getPage(testUser.getId(), null, 20,
+                NotificationCategoryType.ORDER);
+        NotificationPageDTO customs = notificationAPIService.getPage(testUser.getId(), null, 20,
+                NotificationCategoryType.CUSTOM);
+
+        // then
+        assertThat(orders.getNotifications()).extracting(PushNotificationDTO::getCategoryType)
+                .containsExactly(NotificationCategoryType.ORDER);
+        assertThat(customs.getNotifications()).extracting(PushNotificationDTO::getTitle)
+                .containsExactly("공지");
+        assertThat(orders.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 예외가 발생한다")
+    void getPage_InvalidCursor() {
+        assertThatThrownBy(() -> notificationAPIService.getPage(testUser.getId(), "not-a-cursor", 20, null))
+                .isInstanceOf(NotificationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_NOTIFICATION_CURSOR);
+    }
+
+    @Test
+    @DisplayName("since 알림 이후에 생성된 알림과 version 이후의 상태 변경만 반환한다")
+    void getChanges_SinceAndVersion() {
+        // given
+        List<UserNotification> saved = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            saved.add(save(UserNotification.builder()
+                    .user(testUser)
+                    .template(testTemplate)
+                    .contextData(Map.of("orderId", i))
+                    .build()));
+        }
+        Long first = saved.get(0).getId();
+        notificationAPIService.markAsRead(testUser.getId(), List.of(first));
+        String version = new NotificationCursor(LocalDateTime.now().minusMinutes(1), 0L).encode();
+
+        // when
+        NotificationChangesDTO changes = notificationAPIService.getChanges(testUser.getId(), first, version, 50);
+
+        // then
+        assertThat(changes.getNotifications()).extracting(PushNotificationDTO::getNotificationId)
+                .containsExactly(saved.get(1).getId(), saved.get(2).getId());
+        assertThat(changes.getChanges()).singleElement()
+                .matches(change -> change.notificationId().equals(first) && change.isRead() && !change.isDeleted());
+        assertThat(changes.getNextSince()).isEqualTo(saved.get(2).getId());
+        assertThat(changes.isHasMore()).isFalse();
+
+        // when & then: 받은 위치부터 다시 요청하면 변경 없음
+        NotificationChangesDTO next = notificationAPIService.getChanges(testUser.getId(), changes.getNextSince(),
+                changes.getVersion(), 50);
+        assertThat(next.getNotifications()).isEmpty();
+        assertThat(next.getChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번에 전달할 수 있는 수보다 많으면 hasMore로 이어서 조회한다")
+    void getChanges_Bounded() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            ids.add(save(UserNotification.builder()
+                    .user(testUser)
+                    .template(testTemplate)
+                    .contextData(Map.of("orderId", i))
+                    .build()).getId());
+        }
+
+        // when
+        NotificationChangesDTO page1 = notificationAPIService.getChanges(testUser.getId(), ids.get(0), null, 3);
+        NotificationChangesDTO page2 = notificationAPIService.getChanges(testUser.getId(), page1.getNextSince(),
+                page1.getVersion(), 3);
+
+        // then
+        assertThat(page1.getNotifications()).hasSize(3);
+        assertThat(page1.isHasMore()).isTrue();
+        assertThat(page2.getNotifications()).hasSize(2);
+        assertThat(page2.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("진행 중인 스트리밍 적재가 있으면 적재 시작 이전에 생성된 알림까지만 반환한다")
+    void getChanges_HoldsBackInFlightBulkLoad() {
+        // given: 1분 전에 적재된 알림 2개
+        Long userId = testUser.getId();
+        long[] earlier = userNotificationBulkLoader.load(List.of(userId, userId), testTemplate.getId(),
+                "{\"orderId\":1}").notificationIds();
+        entityManager.createNativeQuery(
+                "UPDATE user_notification SET created_at = ? WHERE user_notification_id = ?")
+                .setParameter(1, LocalDateTime.now().minusMinutes(1))
+                .setParameter(2, earlier[0])
+                .executeUpdate();
+        entityManager.createNativeQuery(
+                "UPDATE user_notification SET created_at = ? WHERE user_notification_id = ?")
+                .setParameter(1, LocalDateTime.now().minusMinutes(1).plusSeconds(1))
+                .setParameter(2, earlier[1])
+                .executeUpdate();
+
+        // given: 지금 시작한 적재 (created_at = 적재 시작 시각)
+        LocalDateTime startedAt = LocalDateTime.now();
+        long[] loading = userNotificationBulkLoader.load(List.of(userId), testTemplate.getId(), "{\"orderId\":2}")
+                .notificationIds();
+        given(bulkLoadWatermark.oldestInFlight()).willReturn(startedAt);
+
+        // when: 적재가 진행 중인 동안 동기화
+        NotificationChangesDTO during = notificationAPIService.getChanges(userId, earlier[0], null, 50);
+
+        // then: 적재 중인 알림은 since 위치를 지나치지 않도록 제외
+        assertThat(during.getNotifications()).extracting(PushNotificationDTO::getNotificationId)
+                .containsExactly(earlier[1]);
+
+        // when: 적재가 끝난 뒤 이어서 동기화
+        given(bulkLoadWatermark.oldestInFlight()).willReturn(null);
+        NotificationChangesDTO after = notificationAPIService.getChanges(userId, during.getNextSince(),
+                during.getVersion(), 50);
+
+        // then
+        assertThat(after.getNotifications()).extracting(PushNotificationDTO::getNotificationId)
+                .containsExactly(loading[0]);
+    }
 }
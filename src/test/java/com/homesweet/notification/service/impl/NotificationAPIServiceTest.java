@@ -1,30 +1,40 @@
 package com.homesweet.notification.service.impl;
 
-import com.homesweet.notification.auth.entity.User;
 import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.event.NotificationReadAllEvent;
+import com.homesweet.notification.dto.InboxNotificationRow;
 import com.homesweet.notification.dto.PushNotificationDTO;
-import com.homesweet.notification.entity.NotificationCategory;
-import com.homesweet.notification.entity.NotificationTemplate;
-import com.homesweet.notification.entity.UserNotification;
 import com.homesweet.notification.exception.ErrorCode;
 import com.homesweet.notification.exception.NotificationException;
+import com.homesweet.notification.repository.NotificationReadWatermarkRepository;
 import com.homesweet.notification.repository.UserNotificationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -34,18 +44,44 @@ class NotificationAPIServiceTest {
     @Mock
     private UserNotificationRepository userNotificationRepository;
 
+    @Mock
+    private BroadcastNotificationService broadcastNotificationService;
+
+    @Mock
+    private NotificationReadWatermarkRepository readWatermarkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationTimelineCache timelineCache;
+
+    @Mock
+    private InboxVersion inboxVersion;
+
+    @Mock
+    private BulkLoadWatermark bulkLoadWatermark;
+
     @InjectMocks
     private NotificationAPIService notificationAPIService;
 
     private final Long userId = 1L;
-    private User testUser;
     private Map<String, Object> contextData;
 
     @BeforeEach
     void setUp() {
-        testUser = User.builder().build();
-        ReflectionTestUtils.setField(testUser, "id", userId);
         contextData = Map.of("key", "value");
+
+        // 캐시가 없는 상태: DB 조회 결과를 그대로 사용
+        lenient().when(timelineCache.getOrLoad(eq(userId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<PushNotificationDTO>>>getArgument(1).get());
+    }
+
+    private static InboxNotificationRow customRow(Long id, String title, LocalDateTime createdAt) {
+        return new InboxNotificationRow(id, null, null, null, null, Map.of("title", title), false, createdAt);
     }
 
     @Nested
@@ -56,27 +92,10 @@ class NotificationAPIServiceTest {
         @DisplayName("사용자의 최신 알림 목록을 최대 20개 조회한다")
         void getAllNotifications_Success() {
             // given
-            NotificationCategory category = NotificationCategory.builder()
-                    .categoryType(NotificationCategoryType.SYSTEM)
-                    .build();
-
-            NotificationTemplate template = NotificationTemplate.builder()
-                    .title("제목")
-                    .content("내용")
-                    .redirectUrl("/url")
-                    .category(category)
-                    .build();
-
-            UserNotification notification = UserNotification.builder()
-                    .user(testUser)
-                    .template(template)
-                    .contextData(contextData)
-                    .isRead(false)
-                    .isDeleted(false)
-                    .build();
-            notification.setId(100L);
+            InboxNotificationRow notification = new InboxNotificationRow(100L, "제목", "내용", "/url",
+                    NotificationCategoryType.SYSTEM.getCategoryId(), contextData, false, LocalDateTime.now());
 
-            given(userNotificationRepository.findTop20ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId))
+            given(userNotificationRepository.findInboxByUserId(userId, Limit.of(20)))
                     .willReturn(List.of(notification));
 
             // when
@@ -87,8 +106,198 @@ class NotificationAPIServiceTest {
             assertThat(result.get(0).getNotificationId()).isEqualTo(100L);
             assertThat(result.get(0).getTitle()).isEqualTo("제목");
             assertThat(result.get(0).getCategoryType()).isEqualTo(NotificationCategoryType.SYSTEM);
-            verify(userNotificationRepository, times(1))
-                    .findTop20ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
+            verify(userNotificationRepository, times(1)).findInboxByUserId(userId, Limit.of(20));
+        }
+
+        @Test
+        @DisplayName("전체 발송 알림을 생성 시각 순으로 합쳐 조회한다")
+        void getAllNotifications_MergesBroadcasts() {
+            // given
+            InboxNotificationRow notification = customRow(100L, "개인 알림", LocalDateTime.now().minusHours(1));
+
+            PushNotificationDTO broadcast = PushNotificationDTO.builder()
+                    .notificationId(200L)
+                    .title("시스템 점검")
+                    .categoryType(NotificationCategoryType.SYSTEM)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            given(userNotificationRepository.findInboxByUserId(userId, Limit.of(20)))
+                    .willReturn(List.of(notification));
+            given(broadcastNotificationService.getInbox(userId, null)).willReturn(List.of(broadcast));
+
+            // when
+            List<PushNotificationDTO> result = notificationAPIService.getAllNotifications(userId);
+
+            // then
+            assertThat(result).extracting(PushNotificationDTO::getNotificationId).containsExactly(200L, 100L);
+        }
+
+        @Test
+        @DisplayName("읽음 기준 시각 이전에 생성된 알림은 읽음으로 표시한다")
+        void getAllNotifications_AppliesReadWatermark() {
+            // given
+            LocalDateTime readUntil = LocalDateTime.now().minusMinutes(1);
+            InboxNotificationRow before = customRow(100L, "이전 알림", readUntil.minusSeconds(1));
+            InboxNotificationRow after = customRow(101L, "이후 알림", readUntil.plusSeconds(1));
+
+            given(userNotificationRepository.findInboxByUserId(userId, Limit.of(20)))
+                    .willReturn(List.of(after, before));
+            given(readWatermarkRepository.findReadUntilByUserId(userId)).willReturn(Optional.of(readUntil));
+
+            // when
+            List<PushNotificationDTO> result = notificationAPIService.getAllNotifications(userId);
+
+            // then
+            assertThat(result).extracting(PushNotificationDTO::getNotificationId, PushNotificationDTO::isRead)
+                    .containsExactly(tuple(101L, false), tuple(100L, true));
+            verify(broadcastNotificationService).getInbox(userId, readUntil);
+        }
+
+        @Test
+        @DisplayName("타임라인 캐시가 있으면 DB에서 개인 알림을 조회하지 않는다")
+        void getAllNotifications_FromTimelineCache() {
+            // given
+            PushNotificationDTO cached = PushNotificationDTO.builder()
+                    .notificationId(100L)
+                    .title("캐시된 알림")
+                    .categoryType(NotificationCategoryType.ORDER)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            given(timelineCache.getOrLoad(eq(userId), any())).willReturn(List.of(cached));
+
+            // when
+            List<PushNotificationDTO> result = notificationAPIService.getAllNotifications(userId);
+
+            // then
+            assertThat(result).extracting(PushNotificationDTO::getNotificationId).containsExactly(100L);
+            verify(userNotificationRepository, never()).findInboxByUserId(anyLong(), any(Limit.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 동기화 테스트")
+    class GetChanges {
+
+        @Test
+        @DisplayName("since 알림을 찾을 수 없으면 INVALID_NOTIFICATION_CURSOR 예외가 발생한다")
+        void getChanges_UnknownSince() {
+            // given
+            given(userNotificationRepository.findCreatedAtByIdAndUserId(99L, userId)).willReturn(Optional.empty());
+            given(broadcastNotificationService.findCreatedAt(userId, 99L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> notificationAPIService.getChanges(userId, 99L, null, 50))
+                    .isInstanceOf(NotificationException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_NOTIFICATION_CURSOR);
+        }
+    }
+
+    @Nested
+    @DisplayName("모두 읽음 처리 테스트")
+    class MarkAllAsRead {
+
+        @Test
+        @DisplayName("알림 행을 수정하지 않고 읽음 기준 시각만 기록한 뒤 반영 이벤트를 발행한다 (기준 시각은 요청 시각 이전, 밀리초 단위)")
+        void markAllAsRead_Success() {
+            // given
+            LocalDateTime requestedAt = LocalDateTime.now();
+
+            // when
+            notificationAPIService.markAllAsRead(userId);
+            LocalDateTime returnedAt = LocalDateTime.now();
+
+            // then
+            ArgumentCaptor<NotificationReadAllEvent> event = ArgumentCaptor.forClass(NotificationReadAllEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().userId()).isEqualTo(userId);
+            assertThat(event.getValue().readUntil())
+                    .isAfterOrEqualTo(requestedAt.truncatedTo(ChronoUnit.MILLIS).minus(1, ChronoUnit.MILLIS))
+                    .isBefore(returnedAt);
+            assertThat(event.getValue().readUntil().getNano() % 1_000_000).isZero();
+            verify(readWatermarkRepository).upsert(userId, event.getValue().readUntil());
+            verify(unreadNotificationCounter).resetAfterCommit(userId);
+            verify(timelineCache).invalidateAfterCommit(userId);
+            verify(inboxVersion).bumpAfterCommit(List.of(userId));
+            verifyNoInteractions(userNotificationRepository, broadcastNotificationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽지 않은 알림 수 조회 테스트")
+    class UnreadCount {
+
+        @Test
+        @DisplayName("DB를 조회하지 않고 카운터 값을 반환한다")
+        void getUnreadCount_FromCounter() {
+            // given
+            given(unreadNotificationCounter.get(userId)).willReturn(7L);
+
+            // when
+            long count = notificationAPIService.getUnreadCount(userId);
+
+            // then
+            assertThat(count).isEqualTo(7L);
+            verifyNoInteractions(userNotificationRepository);
+        }
+
+        @Test
+        @DisplayName("읽음 처리 시 읽지 않았던 알림 수만큼 카운터를 감소시킨다")
+        void markAsRead_DecrementsCounter() {
+            // given
+            List<Long> notificationIds = List.of(1L, 2L, 3L);
+            given(userNotificationRepository.markUnreadAsReadByIdInAndUserId(notificationIds, userId, null))
+                    .willReturn(2);
+            given(userNotificationRepository.markAsReadByIdInAndUserId(notificationIds, userId)).willReturn(3);
+
+            // when
+            notificationAPIService.markAsRead(userId, notificationIds);
+
+            // then
+            verify(unreadNotificationCounter).decrementAfterCommit(userId, 2);
+            verify(timelineCache).markAsReadAfterCommit(userId, notificationIds);
+            verify(inboxVersion).bumpAfterCommit(List.of(userId));
+        }
+
+        @Test
+        @DisplayName("삭제 시 읽지 않았던 알림은 한 번만 삭제 처리되어 그 수만큼 카운터를 감소시킨다")
+        void markAsDeleted_DecrementsCounter() {
+            // given: 1번은 읽지 않은 알림, 2번은 이미 읽은 알림
+            List<Long> notificationIds = List.of(1L, 2L);
+            given(userNotificationRepository.markUnreadAsDeletedByIdInAndUserId(notificationIds, userId, null))
+                    .willReturn(1);
+            given(userNotificationRepository.markAsDeletedByIdInAndUserId(notificationIds, userId)).willReturn(1);
+
+            // when
+            notificationAPIService.markAsDeleted(userId, notificationIds);
+
+            // then
+            verify(unreadNotificationCounter).decrementAfterCommit(userId, 1);
+            verifyNoInteractions(broadcastNotificationService);
+        }
+
+        @Test
+        @DisplayName("처리할 알림이 없어 예외가 발생하면 카운터를 변경하지 않는다")
+        void markAsDeleted_NotFound_KeepsCounter() {
+            // given
+            List<Long> notificationIds = List.of(99L);
+            given(userNotificationRepository.markAsDeletedByIdInAndUserId(notificationIds, userId)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> notificationAPIService.markAsDeleted(userId, notificationIds))
+                    .isInstanceOf(NotificationException.class);
+            verifyNoInteractions(unreadNotificationCounter, inboxVersion);
+        }
+
+        @Test
+        @DisplayName("알림함 ETag는 DB를 조회하지 않고 알림함 버전으로 만든다")
+        void getInboxETag_FromVersion() {
+            // given
+            given(inboxVersion.current(userId)).willReturn("1700000000000-3");
+
+            // when & then
+            assertThat(notificationAPIService.getInboxETag(userId)).isEqualTo("1700000000000-3");
+            verifyNoInteractions(userNotificationRepository, readWatermarkRepository);
         }
     }
 
@@ -97,27 +306,40 @@ class NotificationAPIServiceTest {
     class MarkAsRead {
 
         @Test
-        @DisplayName("알림 아이디 리스트를 전달받아 읽음 처리한다")
+        @DisplayName("알림 아이디 리스트를 한 번의 UPDATE로 읽음 처리한다")
         void markAsRead_Success() {
             // given
             List<Long> notificationIds = List.of(1L, 2L);
-            UserNotification n1 = spy(
-                    UserNotification.builder().user(testUser).contextData(contextData).isRead(false).build());
-            UserNotification n2 = spy(
-                    UserNotification.builder().user(testUser).contextData(contextData).isRead(false).build());
+            given(userNotificationRepository.markAsReadByIdInAndUserId(notificationIds, userId)).willReturn(2);
 
-            given(userNotificationRepository.findByIdInAndUserIdAndNotDeleted(notificationIds, userId))
-                    .willReturn(List.of(n1, n2));
+            // when
+            notificationAPIService.markAsRead(userId, notificationIds);
+
+            // then
+            verify(userNotificationRepository, times(1)).markAsReadByIdInAndUserId(notificationIds, userId);
+            verify(userNotificationRepository, never()).findByIdInAndUserIdAndNotDeleted(anyList(), anyLong());
+            verify(userNotificationRepository, never()).saveAll(anyList());
+            verifyNoInteractions(broadcastNotificationService);
+        }
+
+        @Test
+        @DisplayName("IN 절이 커지지 않도록 ID를 청크로 나누고, 중복 ID는 한 번만 처리한다")
+        void markAsRead_Chunked() {
+            // given
+            List<Long> notificationIds = new ArrayList<>();
+            for (long id = 1; id <= 2_500; id++) {
+                notificationIds.add(id);
+            }
+            notificationIds.add(1L);
+            given(userNotificationRepository.markAsReadByIdInAndUserId(anyList(), eq(userId)))
+                    .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
 
             // when
             notificationAPIService.markAsRead(userId, notificationIds);
 
             // then
-            verify(n1, times(1)).markAsRead();
-            verify(n2, times(1)).markAsRead();
-            assertThat(n1.getIsRead()).isTrue();
-            assertThat(n2.getIsRead()).isTrue();
-            verify(userNotificationRepository, times(1)).saveAll(anyList());
+            verify(userNotificationRepository, times(3)).markAsReadByIdInAndUserId(anyList(), eq(userId));
+            verifyNoInteractions(broadcastNotificationService);
         }
 
         @Test
@@ -125,14 +347,36 @@ class NotificationAPIServiceTest {
         void markAsRead_NotFound() {
             // given
             List<Long> notificationIds = List.of(99L);
-            given(userNotificationRepository.findByIdInAndUserIdAndNotDeleted(notificationIds, userId))
-                    .willReturn(List.of());
+            given(userNotificationRepository.markAsReadByIdInAndUserId(notificationIds, userId)).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> notificationAPIService.markAsRead(userId, notificationIds))
                     .isInstanceOf(NotificationException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("개인 알림에 없는 ID는 전체 발송 알림으로 읽음 처리한다")
+        void markAsRead_Broadcast() {
+            // given
+            List<Long> notificationIds = List.of(200L);
+            given(userNotificationRepository.markAsReadByIdInAndUserId(notificationIds, userId)).willReturn(0);
+            given(broadcastNotificationService.markAsRead(userId, notificationIds)).willReturn(1);
+
+            // when
+            notificationAPIService.markAsRead(userId, notificationIds);
+
+            // then
+            verify(broadcastNotificationService).markAsRead(userId, notificationIds);
+            verify(unreadNotificationCounter).invalidateBroadcastAfterCommit(userId);
+        }
+
+        @Test
+        @DisplayName("알림 ID 리스트가 비어있으면 IllegalArgumentException이 발생한다")
+        void markAsRead_EmptyIds() {
+            assertThatThrownBy(() -> notificationAPIService.markAsRead(userId, List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     @Nested
@@ -140,25 +384,19 @@ class NotificationAPIServiceTest {
     class MarkAsDeleted {
 
         @Test
-        @DisplayName("알림 아이디 리스트를 전달받아 삭제 및 읽음 처리한다")
+        @DisplayName("알림 아이디 리스트를 한 번의 UPDATE로 삭제 및 읽음 처리한다")
         void markAsDeleted_Success() {
             // given
             List<Long> notificationIds = List.of(1L);
-            UserNotification n1 = spy(UserNotification.builder().user(testUser).contextData(contextData)
-                    .isDeleted(false).isRead(false).build());
-
-            given(userNotificationRepository.findByIdInAndUserIdAndNotDeleted(notificationIds, userId))
-                    .willReturn(List.of(n1));
+            given(userNotificationRepository.markAsDeletedByIdInAndUserId(notificationIds, userId)).willReturn(1);
 
             // when
             notificationAPIService.markAsDeleted(userId, notificationIds);
 
             // then
-            verify(n1, times(1)).markAsDeleted();
-            verify(n1, times(1)).markAsRead();
-            assertThat(n1.getIsDeleted()).isTrue();
-            assertThat(n1.getIsRead()).isTrue();
-            verify(userNotificationRepository, times(1)).saveAll(anyList());
+            verify(userNotificationRepository, times(1)).markAsDeletedByIdInAndUserId(notificationIds, userId);
+            verify(userNotificationRepository, never()).saveAll(anyList());
+            verify(timelineCache).removeAfterCommit(userId, notificationIds);
         }
 
         @Test
@@ -166,8 +404,7 @@ class NotificationAPIServiceTest {
         void markAsDeleted_NotFound() {
             // given
             List<Long> notificationIds = List.of(99L);
-            given(userNotificationRepository.findByIdInAndUserIdAndNotDeleted(notificationIds, userId))
-                    .willReturn(List.of());
+            given(userNotificationRepository.markAsDeletedByIdInAndUserId(notificationIds, userId)).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> notificationAPIService.markAsDeleted(userId, notificationIds))
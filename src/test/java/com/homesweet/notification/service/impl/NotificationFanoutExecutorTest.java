@@ -0,0 +1,154 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationFanoutExecutorTest {
+
+    private static final int SLICE_SIZE = 100;
+
+    private NotificationFanoutExecutor executor(MeterRegistry meterRegistry, NotificationFanoutExecutor.Mode mode) {
+        return new NotificationFanoutExecutor(meterRegistry, mode, SLICE_SIZE, 4, 10, 2, 2);
+    }
+
+    private List<Long> userIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    @ParameterizedTest
+    @EnumSource(NotificationFanoutExecutor.Mode.class)
+    @DisplayName("모든 모드에서 모든 사용자가 정확히 한 번씩 전송 단계까지 도달한다")
+    void execute_AllUsersReachPublish(NotificationFanoutExecutor.Mode mode) {
+        // given
+        NotificationFanoutExecutor executor = executor(new SimpleMeterRegistry(), mode);
+        List<Long> published = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        executor.<List<Long>, List<Long>>execute("test", userIds(1_050),
+                slice -> new ArrayList<>(slice),
+                resolved -> resolved,
+                published::addAll);
+
+        // then
+        assertThat(published).hasSize(1_050).doesNotHaveDuplicates();
+    }
+
+    @ParameterizedTest
+    @EnumSource(NotificationFanoutExecutor.Mode.class)
+    @DisplayName("한 슬라이스의 실패는 다른 슬라이스 처리에 영향을 주지 않는다")
+    void execute_FailedSliceIsIsolated(NotificationFanoutExecutor.Mode mode) {
+        // given
+        NotificationFanoutExecutor executor = executor(new SimpleMeterRegistry(), mode);
+        List<Long> published = Collections.synchronizedList(new ArrayList<>());
+
+        // when: 첫 번째 슬라이스(1~100)의 저장 단계에서 실패
+        executor.<List<Long>, List<Long>>execute("test", userIds(500),
+                slice -> new ArrayList<>(slice),
+                resolved -> {
+                    if (resolved.contains(1L)) {
+                        throw new IllegalStateException("저장 실패");
+                    }
+                    return resolved;
+                },
+                published::addAll);
+
+        // then
+        assertThat(published).hasSize(400).doesNotContain(1L, 100L).contains(101L, 500L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = NotificationFanoutExecutor.Mode.class, names = { "PARALLEL", "PIPELINE" })
+    @DisplayName("동시에 실행된 Fan-out들의 DB 작업 수 합계는 동시 실행 한도를 넘지 않는다")
+    void execute_ConcurrentCallsShareConcurrencyLimit(NotificationFanoutExecutor.Mode mode) throws Exception {
+        // given: 동시 실행 한도 4
+        NotificationFanoutExecutor executor = executor(new SimpleMeterRegistry(), mode);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Runnable fanout = () -> executor.<List<Long>, List<Long>>execute("test", userIds(2_000),
+                slice -> track(running, maxRunning, new ArrayList<>(slice)),
+                resolved -> track(running, maxRunning, resolved),
+                resolved -> {
+                });
+
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(fanout);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(fanout);
+        CompletableFuture.allOf(first, second).get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    private static <T> T track(AtomicInteger running, AtomicInteger maxRunning, T result) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("null을 반환한 슬라이스는 이후 단계를 생략한다")
+    void execute_NullResultSkipsLaterStages() {
+        // given
+        NotificationFanoutExecutor executor = executor(new SimpleMeterRegistry(),
+                NotificationFanoutExecutor.Mode.PIPELINE);
+        AtomicInteger persisted = new AtomicInteger();
+
+        // when
+        executor.<List<Long>, List<Long>>execute("test", userIds(300),
+                slice -> null,
+                resolved -> {
+                    persisted.incrementAndGet();
+                    return resolved;
+                },
+                resolved -> {
+                });
+
+        // then
+        assertThat(persisted).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("파이프라인 종료 후 단계별 큐 깊이는 0이며 처리량이 기록된다")
+    void execute_PipelineMetrics() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationFanoutExecutor executor = executor(meterRegistry, NotificationFanoutExecutor.Mode.PIPELINE);
+
+        // when
+        executor.<List<Long>, List<Long>>execute("test", userIds(1_000),
+                slice -> new ArrayList<>(slice),
+                resolved -> resolved,
+                resolved -> {
+                });
+
+        // then
+        for (NotificationFanoutPipeline.Stage stage : NotificationFanoutPipeline.Stage.values()) {
+            assertThat(meterRegistry.get("notification.fanout.queue.depth").tag("stage", stage.name()).gauge().value())
+                    .isZero();
+            assertThat(meterRegistry.get("notification.fanout.stage.recipients")
+                    .tag("stage", stage.name()).tag("outcome", "success").counter().count())
+                    .isEqualTo(1_000);
+        }
+    }
+}
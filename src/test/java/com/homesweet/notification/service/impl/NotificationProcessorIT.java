@@ -18,9 +18,12 @@ import com.homesweet.notification.entity.NotificationTemplate;
 import com.homesweet.notification.entity.UserNotification;
 import com.homesweet.notification.repository.NotificationCategoryRepository;
 import com.homesweet.notification.repository.NotificationTemplateRepository;
+import com.homesweet.notification.repository.UserNotificationIdAllocator;
 import com.homesweet.notification.repository.UserNotificationRepository;
+import com.homesweet.notification.repository.impl.H2UserNotificationBulkLoader;
 import com.homesweet.notification.repository.impl.H2UserNotificationJdbcRepository;
 import com.homesweet.notification.service.NotificationPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,11 +37,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
@@ -48,8 +53,14 @@ import static org.mockito.Mockito.verify;
 @Import({
                 NotificationProcessor.class,
                 UserNotificationService.class,
+                BroadcastNotificationService.class,
+                NotificationTemplateRegistry.class,
                 UserService.class,
                 H2UserNotificationJdbcRepository.class,
+                H2UserNotificationBulkLoader.class,
+                UserNotificationIdAllocator.class,
+                NotificationFanoutExecutor.class,
+                SimpleMeterRegistry.class,
                 ObjectMapper.class
 })
 @Transactional
@@ -78,11 +89,26 @@ class NotificationProcessorIT {
         @MockitoBean
         private NotificationPublisher notificationPublisher;
 
+        @MockitoBean
+        private UnreadNotificationCounter unreadNotificationCounter;
+
+        @MockitoBean
+        private NotificationTimelineCache timelineCache;
+
+        @MockitoBean
+        private InboxVersion inboxVersion;
+
+        @MockitoBean
+        private BulkLoadWatermark bulkLoadWatermark;
+
         private User testUser;
         private NotificationTemplate testTemplate;
 
         @BeforeEach
         void setUp() {
+                given(bulkLoadWatermark.track(any()))
+                                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
                 // 1. 테스트 사용자 생성
                 testUser = User.builder()
                                 .email("proc_it@example.com")
@@ -4,30 +4,42 @@ import com.homesweet.notification.auth.entity.User;
 import com.homesweet.notification.auth.service.UserService;
 import com.homesweet.notification.domain.NotificationCategoryType;
 import com.homesweet.notification.domain.NotificationTemplateType;
+import com.homesweet.notification.domain.BroadcastAudience;
+import com.homesweet.notification.domain.event.BroadcastNotificationEvent;
 import com.homesweet.notification.domain.event.CustomNotificationEvent;
 import com.homesweet.notification.domain.event.TemplateNotificationEvent;
 import com.homesweet.notification.domain.notification.CustomNotification;
+import com.homesweet.notification.domain.notification.OrderNotification;
+import com.homesweet.notification.domain.notification.SystemNotification;
 import com.homesweet.notification.domain.notification.TemplateNotification;
 import com.homesweet.notification.dto.PushNotificationDTO;
+import com.homesweet.notification.entity.BroadcastNotification;
 import com.homesweet.notification.entity.NotificationCategory;
 import com.homesweet.notification.entity.NotificationTemplate;
 import com.homesweet.notification.entity.UserNotification;
+import com.homesweet.notification.exception.NotificationException;
+import com.homesweet.notification.repository.UserNotificationBulkLoader;
 import com.homesweet.notification.service.NotificationPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +54,16 @@ class NotificationProcessorTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private BroadcastNotificationService broadcastNotificationService;
+
+    @Mock
+    private NotificationTimelineCache timelineCache;
+
+    @Spy
+    private NotificationFanoutExecutor fanoutExecutor = new NotificationFanoutExecutor(
+            new SimpleMeterRegistry(), NotificationFanoutExecutor.Mode.SEQUENTIAL, 500, 10, 10, 4, 2);
+
     @InjectMocks
     private NotificationProcessor notificationProcessor;
 
@@ -51,6 +73,8 @@ class NotificationProcessorTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(notificationProcessor, "verifyRecipientExistence", true);
+
         testUser = User.builder().build();
         ReflectionTestUtils.setField(testUser, "id", 1L);
 
@@ -101,6 +125,9 @@ class NotificationProcessorTest {
             // then
             verify(userNotificationService).saveUserNotification(any(UserNotification.class));
             verify(notificationPublisher).publish(eq(1L), any(PushNotificationDTO.class));
+            verify(timelineCache).append(argThat(messages -> messages.size() == 1
+                    && messages.get(0).getUserId().equals(1L)
+                    && messages.get(0).getData().getNotificationId().equals(100L)));
         }
 
         @Test
@@ -117,27 +144,77 @@ class NotificationProcessorTest {
             given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
                     .willReturn(testTemplate);
 
-            User user2 = User.builder().build();
-            ReflectionTestUtils.setField(user2, "id", 2L);
-            User user3 = User.builder().build();
-            ReflectionTestUtils.setField(user3, "id", 3L);
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
 
-            given(userService.getManyUsersById(userIds)).willReturn(List.of(testUser, user2, user3));
-
-            UserNotification un1 = UserNotification.builder().user(testUser).contextData(Map.of()).build();
+            UserNotification un1 = UserNotification.forRecipient(1L, testTemplate, Map.of());
             un1.setId(101L);
-            UserNotification un2 = UserNotification.builder().user(user2).contextData(Map.of()).build();
+            UserNotification un2 = UserNotification.forRecipient(2L, testTemplate, Map.of());
             un2.setId(102L);
-            UserNotification un3 = UserNotification.builder().user(user3).contextData(Map.of()).build();
+            UserNotification un3 = UserNotification.forRecipient(3L, testTemplate, Map.of());
             un3.setId(103L);
 
-            given(userNotificationService.createUserNotification(any(), any(), any()))
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
                     .willReturn(un1, un2, un3);
 
             // when
             notificationProcessor.processTemplateNotification(event);
 
             // then
+            verify(userService, never()).getManyUsersById(anyList());
+            verify(userNotificationService).bulkInsertUserNotifications(anyList());
+            verify(notificationPublisher).publishBulk(anyMap());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자는 배치 알림 대상에서 제외한다")
+        void processTemplateNotification_Batch_SkipsMissingUsers() {
+            // given
+            List<Long> userIds = List.of(1L, 2L, 999L);
+            TemplateNotification notification = mock(TemplateNotification.class);
+            given(notification.getEventType()).willReturn(NotificationTemplateType.SYSTEM_UPDATE);
+            given(notification.toMap()).willReturn(Map.of("key", "value"));
+
+            TemplateNotificationEvent event = new TemplateNotificationEvent(userIds, notification);
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+            given(userService.getExistingUserIds(userIds)).willReturn(List.of(1L, 2L));
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotification(event);
+
+            // then
+            verify(userNotificationService).createRecipientNotification(eq(1L), any(), any());
+            verify(userNotificationService).createRecipientNotification(eq(2L), any(), any());
+            verify(userNotificationService, never()).createRecipientNotification(eq(999L), any(), any());
+        }
+
+        @Test
+        @DisplayName("존재 여부 검증이 꺼져 있으면 사용자 조회 없이 배치 알림을 생성한다")
+        void processTemplateNotification_Batch_WithoutExistenceCheck() {
+            // given
+            ReflectionTestUtils.setField(notificationProcessor, "verifyRecipientExistence", false);
+            List<Long> userIds = List.of(1L, 2L);
+            TemplateNotification notification = mock(TemplateNotification.class);
+            given(notification.getEventType()).willReturn(NotificationTemplateType.SYSTEM_UPDATE);
+            given(notification.toMap()).willReturn(Map.of("key", "value"));
+
+            TemplateNotificationEvent event = new TemplateNotificationEvent(userIds, notification);
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotification(event);
+
+            // then
+            verifyNoInteractions(userService);
             verify(userNotificationService).bulkInsertUserNotifications(anyList());
             verify(notificationPublisher).publishBulk(anyMap());
         }
@@ -193,16 +270,14 @@ class NotificationProcessorTest {
 
             CustomNotificationEvent event = new CustomNotificationEvent(userIds, notification);
 
-            User user2 = User.builder().build();
-            ReflectionTestUtils.setField(user2, "id", 2L);
-            given(userService.getManyUsersById(userIds)).willReturn(List.of(testUser, user2));
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
 
-            UserNotification un1 = UserNotification.builder().user(testUser).contextData(Map.of()).build();
+            UserNotification un1 = UserNotification.forRecipient(1L, null, Map.of());
             un1.setId(201L);
-            UserNotification un2 = UserNotification.builder().user(user2).contextData(Map.of()).build();
+            UserNotification un2 = UserNotification.forRecipient(2L, null, Map.of());
             un2.setId(202L);
 
-            given(userNotificationService.createUserNotification(any(), isNull(), anyMap()))
+            given(userNotificationService.createRecipientNotification(any(), isNull(), anyMap()))
                     .willReturn(un1, un2);
 
             // when
@@ -213,4 +288,294 @@ class NotificationProcessorTest {
             verify(notificationPublisher).publishBulk(anyMap());
         }
     }
+
+    @Nested
+    @DisplayName("배치 수신 그룹 처리 테스트")
+    class GroupCommitTest {
+
+        private TemplateNotificationEvent singleEvent(Long userId) {
+            TemplateNotification notification = mock(TemplateNotification.class);
+            given(notification.getEventType()).willReturn(NotificationTemplateType.SYSTEM_UPDATE);
+            given(notification.toMap()).willReturn(Map.of("key", "value"));
+            return new TemplateNotificationEvent(List.of(userId), notification);
+        }
+
+        @Test
+        @DisplayName("단일 사용자 이벤트들을 한 번의 저장과 한 번의 전송으로 처리한다")
+        void processTemplateNotifications_GroupsSingleEvents() {
+            // given
+            List<TemplateNotificationEvent> events = List.of(singleEvent(1L), singleEvent(2L), singleEvent(1L));
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+            given(userService.getExistingUserIds(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotifications(events);
+
+            // then
+            verify(userNotificationService).bulkInsertUserNotifications(argThat(list -> list.size() == 3));
+            verify(notificationPublisher).publishAll(argThat(list -> list.size() == 3));
+            verify(timelineCache).append(argThat(list -> list.size() == 3));
+            verify(userNotificationService, never()).saveUserNotification(any());
+            verify(notificationPublisher, never()).publish(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("그룹 저장이 실패하면 이벤트별 처리로 전환한다")
+        void processTemplateNotifications_FallsBackToPerEvent() {
+            // given
+            List<TemplateNotificationEvent> events = List.of(singleEvent(1L), singleEvent(2L));
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+            given(userService.getExistingUserIds(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+            willThrow(new RuntimeException("DB 오류"))
+                    .given(userNotificationService).bulkInsertUserNotifications(anyList());
+
+            given(userService.getUserById(anyLong())).willReturn(testUser);
+            given(userNotificationService.createUserNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.builder()
+                            .user(invocation.getArgument(0))
+                            .template(testTemplate)
+                            .contextData(Map.of())
+                            .build());
+
+            // when
+            notificationProcessor.processTemplateNotifications(events);
+
+            // then
+            verify(userNotificationService, times(2)).saveUserNotification(any(UserNotification.class));
+            verify(notificationPublisher, never()).publishAll(anyList());
+        }
+
+        @Test
+        @DisplayName("다수 사용자 이벤트 앞에 모인 단일 알림을 먼저 처리한다")
+        void processTemplateNotifications_FlushesBeforeMultiUserEvent() {
+            // given
+            TemplateNotification multiNotification = mock(TemplateNotification.class);
+            given(multiNotification.getEventType()).willReturn(NotificationTemplateType.SYSTEM_UPDATE);
+            given(multiNotification.toMap()).willReturn(Map.of("key", "value"));
+            TemplateNotificationEvent multiEvent = new TemplateNotificationEvent(List.of(3L, 4L), multiNotification);
+
+            List<TemplateNotificationEvent> events = List.of(singleEvent(1L), singleEvent(2L), multiEvent);
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+            given(userService.getExistingUserIds(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotifications(events);
+
+            // then
+            InOrder inOrder = inOrder(notificationPublisher);
+            inOrder.verify(notificationPublisher).publishAll(anyList());
+            inOrder.verify(notificationPublisher).publishBulk(anyMap());
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 발송 스트리밍 적재 테스트")
+    class BulkLoadTest {
+
+        private TemplateNotificationEvent multiEvent(List<Long> userIds) {
+            TemplateNotification notification = mock(TemplateNotification.class);
+            given(notification.getEventType()).willReturn(NotificationTemplateType.SYSTEM_UPDATE);
+            given(notification.toMap()).willReturn(Map.of("key", "value"));
+            return new TemplateNotificationEvent(userIds, notification);
+        }
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(notificationProcessor, "bulkLoadThreshold", 3);
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_UPDATE))
+                    .willReturn(testTemplate);
+        }
+
+        @Test
+        @DisplayName("수신자가 기준 이상이면 스트리밍 적재 후 할당된 ID로 전송한다")
+        void processTemplateNotification_UsesBulkLoad() {
+            // given
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
+            given(userNotificationService.bulkLoadUserNotifications(eq(userIds), eq(testTemplate), any()))
+                    .willReturn(new UserNotificationBulkLoader.Loaded(userIds, new long[] { 101L, 102L, 103L }));
+
+            // when
+            notificationProcessor.processTemplateNotification(multiEvent(userIds));
+
+            // then
+            verify(userNotificationService, never()).bulkInsertUserNotifications(anyList());
+            verify(notificationPublisher).publishBulk(argThat(map -> map.size() == 3
+                    && map.get(2L).getNotificationId().equals(102L)));
+        }
+
+        @Test
+        @DisplayName("일부 수신자만 적재되면 Fan-out으로 다시 저장하지 않고 저장된 알림만 전송한다")
+        void processTemplateNotification_PartialBulkLoad() {
+            // given: 수신자 2가 적재 직전에 탈퇴
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
+            given(userNotificationService.bulkLoadUserNotifications(eq(userIds), eq(testTemplate), any()))
+                    .willReturn(new UserNotificationBulkLoader.Loaded(List.of(1L, 3L), new long[] { 101L, 103L }));
+
+            // when
+            notificationProcessor.processTemplateNotification(multiEvent(userIds));
+
+            // then
+            verify(userNotificationService, never()).bulkInsertUserNotifications(anyList());
+            verify(notificationPublisher).publishBulk(argThat(map -> map.size() == 2
+                    && map.get(3L).getNotificationId().equals(103L) && !map.containsKey(2L)));
+        }
+
+        @Test
+        @DisplayName("수신자가 기준보다 적으면 기존 배치 저장을 사용한다")
+        void processTemplateNotification_BelowThreshold() {
+            // given
+            List<Long> userIds = List.of(1L, 2L);
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotification(multiEvent(userIds));
+
+            // then
+            verify(userNotificationService, never()).bulkLoadUserNotifications(anyList(), any(), any());
+            verify(userNotificationService).bulkInsertUserNotifications(anyList());
+        }
+
+        @Test
+        @DisplayName("스트리밍 적재가 실패하면 Fan-out 배치 저장으로 전환한다")
+        void processTemplateNotification_FallsBackToFanout() {
+            // given
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(userService.getExistingUserIds(userIds)).willReturn(userIds);
+            given(userNotificationService.bulkLoadUserNotifications(anyList(), any(), any()))
+                    .willThrow(new RuntimeException("local_infile 비활성화"));
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotification(multiEvent(userIds));
+
+            // then
+            verify(userNotificationService).bulkInsertUserNotifications(argThat(list -> list.size() == 3));
+            verify(notificationPublisher).publishBulk(anyMap());
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 발송 알림 테스트")
+    class BroadcastTest {
+
+        @Test
+        @DisplayName("전체 발송 알림은 한 건만 저장하고 한 번만 발행한다")
+        void processBroadcastNotification() {
+            // given
+            SystemNotification.SystemMaintenance notification = SystemNotification.SystemMaintenance.builder()
+                    .maintenanceTime("11/20 02:00 ~ 04:00")
+                    .build();
+            BroadcastNotificationEvent event = new BroadcastNotificationEvent(notification, BroadcastAudience.ALL);
+
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_MAINTENANCE))
+                    .willReturn(testTemplate);
+            BroadcastNotification broadcast = BroadcastNotification.builder()
+                    .id(500L)
+                    .template(testTemplate)
+                    .contextData(notification.toMap())
+                    .audience(BroadcastAudience.ALL)
+                    .build();
+            given(broadcastNotificationService.saveBroadcast(eq(testTemplate), anyMap(), eq(BroadcastAudience.ALL)))
+                    .willReturn(broadcast);
+
+            // when
+            notificationProcessor.processBroadcastNotification(event);
+
+            // then
+            verify(notificationPublisher).publishBroadcast(eq(BroadcastAudience.ALL),
+                    argThat(dto -> dto.getNotificationId().equals(500L)));
+            verify(userNotificationService, never()).bulkInsertUserNotifications(anyList());
+            verify(userService, never()).getExistingUserIds(anyList());
+        }
+
+        private TemplateNotificationEvent systemEvent(List<Long> userIds) {
+            SystemNotification.SystemMaintenance notification = SystemNotification.SystemMaintenance.builder()
+                    .maintenanceTime("11/20 02:00 ~ 04:00")
+                    .build();
+            return new TemplateNotificationEvent(userIds, notification);
+        }
+
+        @Test
+        @DisplayName("전체 사용자 대상 시스템 알림 이벤트는 전체 발송으로 처리한다")
+        void processTemplateNotifications_RoutesAllUsersToBroadcast() {
+            // given
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(userService.countUsers()).willReturn(3L);
+            given(userService.getExistingUserIds(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_MAINTENANCE))
+                    .willReturn(testTemplate);
+            BroadcastNotification broadcast = BroadcastNotification.builder()
+                    .id(500L)
+                    .template(testTemplate)
+                    .contextData(Map.of())
+                    .audience(BroadcastAudience.ALL)
+                    .build();
+            given(broadcastNotificationService.saveBroadcast(eq(testTemplate), anyMap(), eq(BroadcastAudience.ALL)))
+                    .willReturn(broadcast);
+
+            // when
+            notificationProcessor.processTemplateNotifications(List.of(systemEvent(userIds)));
+
+            // then
+            verify(notificationPublisher).publishBroadcast(eq(BroadcastAudience.ALL),
+                    argThat(dto -> dto.getNotificationId().equals(500L)));
+            verify(userNotificationService, never()).bulkInsertUserNotifications(anyList());
+            verify(notificationPublisher, never()).publishBulk(anyMap());
+        }
+
+        @Test
+        @DisplayName("일부 사용자 대상 시스템 알림 이벤트는 사용자별로 저장한다")
+        void processTemplateNotifications_PartialAudienceUsesFanout() {
+            // given: 전체 4명 중 3명 (존재하지 않는 ID 99 포함)
+            List<Long> userIds = List.of(1L, 2L, 3L, 99L);
+            given(userService.countUsers()).willReturn(4L);
+            given(userService.getExistingUserIds(anyList())).willReturn(List.of(1L, 2L, 3L));
+            given(userNotificationService.getNotificationTemplate(NotificationTemplateType.SYSTEM_MAINTENANCE))
+                    .willReturn(testTemplate);
+            given(userNotificationService.createRecipientNotification(any(), any(), any()))
+                    .willAnswer(invocation -> UserNotification.forRecipient(
+                            invocation.getArgument(0), testTemplate, Map.of()));
+
+            // when
+            notificationProcessor.processTemplateNotifications(List.of(systemEvent(userIds)));
+
+            // then
+            verify(broadcastNotificationService, never()).saveBroadcast(any(), anyMap(), any());
+            verify(userNotificationService).bulkInsertUserNotifications(argThat(list -> list.size() == 3));
+        }
+
+        @Test
+        @DisplayName("시스템/프로모션이 아닌 알림은 전체 발송할 수 없다")
+        void broadcastEvent_RejectsOtherCategories() {
+            OrderNotification.OrderCompleted notification = OrderNotification.OrderCompleted.builder()
+                    .userName("홍길동")
+                    .orderId(1L)
+                    .build();
+
+            assertThatThrownBy(() -> new BroadcastNotificationEvent(notification))
+                    .isInstanceOf(NotificationException.class);
+        }
+    }
 }
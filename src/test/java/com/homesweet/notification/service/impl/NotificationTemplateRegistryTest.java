@@ -0,0 +1,118 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.domain.NotificationTemplateType;
+import com.homesweet.notification.entity.NotificationCategory;
+import com.homesweet.notification.entity.NotificationTemplate;
+import com.homesweet.notification.exception.NotificationException;
+import com.homesweet.notification.repository.NotificationTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTemplateRegistryTest {
+
+    @Mock
+    private NotificationTemplateRepository notificationTemplateRepository;
+
+    @InjectMocks
+    private NotificationTemplateRegistry notificationTemplateRegistry;
+
+    private NotificationTemplate systemUpdate;
+    private NotificationTemplate orderCompleted;
+
+    @BeforeEach
+    void setUp() {
+        NotificationCategory category = NotificationCategory.builder()
+                .categoryType(NotificationCategoryType.SYSTEM)
+                .build();
+        systemUpdate = NotificationTemplate.builder()
+                .category(category)
+                .templateType(NotificationTemplateType.SYSTEM_UPDATE)
+                .title("업데이트")
+                .content("업데이트 내용")
+                .redirectUrl("/system")
+                .build();
+        orderCompleted = NotificationTemplate.builder()
+                .category(category)
+                .templateType(NotificationTemplateType.ORDER_COMPLETED)
+                .title("주문 완료")
+                .content("주문 완료 내용")
+                .redirectUrl("/orders")
+                .build();
+    }
+
+    @Test
+    @DisplayName("적재된 템플릿은 DB 조회 없이 반환한다")
+    void get_FromPreloadedTemplates() {
+        // given
+        given(notificationTemplateRepository.findAllWithCategory()).willReturn(List.of(systemUpdate));
+        notificationTemplateRegistry.warmUp();
+
+        // when
+        NotificationTemplate template = notificationTemplateRegistry.get(NotificationTemplateType.SYSTEM_UPDATE);
+
+        // then
+        assertThat(template).isSameAs(systemUpdate);
+        verify(notificationTemplateRepository, never()).findWithCategoryByTemplateType(any());
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 템플릿은 최초 1회만 DB에서 조회한다")
+    void get_LoadsMissingTemplateOnce() {
+        // given
+        given(notificationTemplateRepository.findWithCategoryByTemplateType(NotificationTemplateType.ORDER_COMPLETED))
+                .willReturn(Optional.of(orderCompleted));
+
+        // when
+        notificationTemplateRegistry.get(NotificationTemplateType.ORDER_COMPLETED);
+        NotificationTemplate template = notificationTemplateRegistry.get(NotificationTemplateType.ORDER_COMPLETED);
+
+        // then
+        assertThat(template).isSameAs(orderCompleted);
+        verify(notificationTemplateRepository, times(1))
+                .findWithCategoryByTemplateType(NotificationTemplateType.ORDER_COMPLETED);
+    }
+
+    @Test
+    @DisplayName("무효화된 템플릿은 다음 조회 시 DB에서 다시 적재한다")
+    void invalidate_ReloadsOnNextGet() {
+        // given
+        given(notificationTemplateRepository.findAllWithCategory()).willReturn(List.of(systemUpdate));
+        given(notificationTemplateRepository.findWithCategoryByTemplateType(NotificationTemplateType.SYSTEM_UPDATE))
+                .willReturn(Optional.of(systemUpdate));
+        notificationTemplateRegistry.warmUp();
+
+        // when
+        notificationTemplateRegistry.invalidate(NotificationTemplateType.SYSTEM_UPDATE);
+        notificationTemplateRegistry.get(NotificationTemplateType.SYSTEM_UPDATE);
+
+        // then
+        verify(notificationTemplateRepository).findWithCategoryByTemplateType(NotificationTemplateType.SYSTEM_UPDATE);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 템플릿은 예외를 던진다")
+    void get_NotFound() {
+        // given
+        given(notificationTemplateRepository.findWithCategoryByTemplateType(NotificationTemplateType.SYSTEM_UPDATE))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> notificationTemplateRegistry.get(NotificationTemplateType.SYSTEM_UPDATE))
+                .isInstanceOf(NotificationException.class);
+    }
+}
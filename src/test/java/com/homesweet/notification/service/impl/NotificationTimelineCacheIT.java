@@ -0,0 +1,276 @@
+package com.homesweet.notification.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타임라인 캐시 Lua 스크립트를 실제 Redis에서 확인합니다. (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationTimelineCacheIT {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final Long USER_ID = 1L;
+    private static final String TIMELINE_KEY = "notification:timeline:1";
+    private static final String ENTRIES_KEY = "notification:timeline:1:entries";
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private NotificationTimelineCache timelineCache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        timelineCache = new NotificationTimelineCache(redis, objectMapper);
+        ReflectionTestUtils.setField(timelineCache, "ttlSeconds", 3600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    /** ID가 클수록 최신 */
+    private static PushNotificationDTO notification(long id) {
+        return PushNotificationDTO.builder()
+                .notificationId(id)
+                .title("알림 " + id)
+                .content("내용")
+                .redirectUrl("/notifications/" + id)
+                .contextData(Map.of("id", id))
+                .categoryType(NotificationCategoryType.ORDER)
+                .createdAt(BASE.plusSeconds(id))
+                .build();
+    }
+
+    /** 최신순 알림 (to → from) */
+    private static List<PushNotificationDTO> notifications(long from, long to) {
+        return LongStream.rangeClosed(from, to).map(id -> to - id + from)
+                .mapToObj(NotificationTimelineCacheIT::notification)
+                .toList();
+    }
+
+    private static List<Long> ids(List<PushNotificationDTO> notifications) {
+        return notifications.stream().map(PushNotificationDTO::getNotificationId).toList();
+    }
+
+    private Supplier<List<PushNotificationDTO>> loader(AtomicInteger loads, List<PushNotificationDTO> result) {
+        return () -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    @Test
+    @DisplayName("적재한 캐시는 다음 조회에서 DB 없이 최신순으로 반환된다")
+    void getOrLoad_LoadsThenHits() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 5)));
+
+        // when
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(USER_ID, loader(loads, List.of()));
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(ids(cached)).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("적재 중에 읽음 처리가 일어나면 적재를 취소하고 다음 조회에서 다시 적재한다")
+    void load_RacingMarkAsRead() {
+        // given: DB 조회 도중 다른 요청이 읽음 처리
+        AtomicInteger loads = new AtomicInteger();
+        List<PushNotificationDTO> stale = notifications(1, 3);
+
+        // when
+        List<PushNotificationDTO> first = timelineCache.getOrLoad(USER_ID, () -> {
+            loads.incrementAndGet();
+            timelineCache.markAsReadAfterCommit(USER_ID, List.of(3L));
+            return stale;
+        });
+
+        // then: 읽음 이전 상태로 조회한 결과는 캐시에 남지 않음
+        assertThat(first).hasSize(3);
+        assertThat(redis.hasKey(ENTRIES_KEY)).isFalse();
+
+        List<PushNotificationDTO> fresh = new ArrayList<>(notifications(1, 3));
+        fresh.set(0, fresh.get(0).toBuilder().isRead(true).build());
+        timelineCache.getOrLoad(USER_ID, loader(loads, fresh));
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(USER_ID, loader(loads, List.of()));
+        assertThat(loads).hasValue(2);
+        assertThat(cached.get(0).isRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 중에 삭제가 일어나면 적재를 취소한다")
+    void load_RacingRemove() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        timelineCache.getOrLoad(USER_ID, () -> {
+            loads.incrementAndGet();
+            timelineCache.removeAfterCommit(USER_ID, List.of(2L));
+            return notifications(1, 3);
+        });
+
+        // then: 삭제된 알림이 포함된 결과는 캐시에 남지 않음
+        assertThat(redis.hasKey(TIMELINE_KEY)).isFalse();
+        assertThat(redis.hasKey(ENTRIES_KEY)).isFalse();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 1)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시에 조회한 요청은 적재 중인 캐시를 읽지 않고 DB 결과를 사용한다")
+    void load_RacingRead() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        List<List<PushNotificationDTO>> concurrent = new ArrayList<>();
+
+        // when: 적재 도중 다른 요청이 조회
+        timelineCache.getOrLoad(USER_ID, () -> {
+            loads.incrementAndGet();
+            concurrent.add(timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 2))));
+            return notifications(1, 2);
+        });
+
+        // then: 적재 중인 요청은 캐시를 기다리지 않고 DB 결과를 반환하며, 적재는 한 번만 완료됨
+        assertThat(ids(concurrent.get(0))).containsExactly(2L, 1L);
+        assertThat(loads).hasValue(2);
+        assertThat(ids(timelineCache.getOrLoad(USER_ID, loader(loads, List.of())))).containsExactly(2L, 1L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("적재 중에 발송된 알림은 적재 결과와 함께 유지된다")
+    void append_DuringLoad() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when: DB 조회 이후 새 알림 발송
+        timelineCache.getOrLoad(USER_ID, () -> {
+            loads.incrementAndGet();
+            List<PushNotificationDTO> loaded = notifications(1, 3);
+            timelineCache.append(List.of(new NotificationMessage(USER_ID, notification(4))));
+            return loaded;
+        });
+
+        // then
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(USER_ID, loader(loads, List.of()));
+        assertThat(loads).hasValue(1);
+        assertThat(ids(cached)).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("캐시가 없는 사용자에게 발송된 알림은 추가하지 않는다")
+    void append_WithoutCache() {
+        // when
+        timelineCache.append(List.of(new NotificationMessage(USER_ID, notification(1))));
+
+        // then
+        assertThat(redis.hasKey(TIMELINE_KEY)).isFalse();
+        assertThat(redis.hasKey(ENTRIES_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 알림이 추가되면 최신 20개만 남기고 오래된 항목을 정리한다")
+    void append_TrimsToCapacity() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 20)));
+        timelineCache.markAsReadAfterCommit(USER_ID, List.of(1L));
+
+        // when
+        List<NotificationMessage> messages = new ArrayList<>();
+        for (long id = 21; id <= 25; id++) {
+            messages.add(new NotificationMessage(USER_ID, notification(id)));
+        }
+        timelineCache.append(messages);
+
+        // then: 항목 20개와 적재 상태만 남고, 정리된 항목의 읽음 표시도 함께 삭제
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(USER_ID, loader(loads, List.of()));
+        assertThat(loads).hasValue(1);
+        assertThat(ids(cached)).hasSize(NotificationTimelineCache.CAPACITY).startsWith(25L).endsWith(6L);
+        assertThat(redis.opsForZSet().size(TIMELINE_KEY)).isEqualTo(20L);
+        assertThat(redis.opsForHash().size(ENTRIES_KEY)).isEqualTo(21L);
+        assertThat(redis.opsForHash().hasKey(ENTRIES_KEY, "r:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 찬 캐시에서 삭제하면 캐시를 지우고 다음 조회에서 다시 적재한다")
+    void remove_FullTimeline() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 20)));
+
+        // when
+        timelineCache.removeAfterCommit(USER_ID, List.of(10L));
+
+        // then: 21번째 알림을 알 수 없으므로 캐시 삭제
+        assertThat(redis.hasKey(TIMELINE_KEY)).isFalse();
+        assertThat(redis.hasKey(ENTRIES_KEY)).isFalse();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 9)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("가득 차지 않은 캐시에서 삭제하면 해당 항목만 제거한다")
+    void remove_PartialTimeline() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        timelineCache.getOrLoad(USER_ID, loader(loads, notifications(1, 5)));
+
+        // when
+        timelineCache.removeAfterCommit(USER_ID, List.of(3L));
+
+        // then
+        List<PushNotificationDTO> cached = timelineCache.getOrLoad(USER_ID, loader(loads, List.of()));
+        assertThat(loads).hasValue(1);
+        assertThat(ids(cached)).containsExactly(5L, 4L, 2L, 1L);
+    }
+}
@@ -0,0 +1,149 @@
+package com.homesweet.notification.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homesweet.notification.domain.NotificationCategoryType;
+import com.homesweet.notification.dto.NotificationMessage;
+import com.homesweet.notification.dto.PushNotificationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTimelineCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ObjectMapper objectMapper;
+    private NotificationTimelineCache timelineCache;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        timelineCache = new NotificationTimelineCache(stringRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(timelineCache, "ttlSeconds", 3600L);
+    }
+
+    private PushNotificationDTO notification(Long id) {
+        return PushNotificationDTO.builder()
+                .notificationId(id)
+                .title("주문 완료")
+                .content("주문이 완료되었습니다.")
+                .redirectUrl("/orders/" + id)
+                .contextData(Map.of("orderId", id))
+                .categoryType(NotificationCategoryType.ORDER)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String json(PushNotificationDTO notification) throws Exception {
+        return objectMapper.writeValueAsString(NotificationTimelineCache.TimelineEntry.from(notification));
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 DB를 조회하지 않고, 읽음 표시를 항목에 반영한다")
+    void getOrLoad_Hit() throws Exception {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(Arrays.asList(json(notification(2L)), json(notification(1L)), null, "1"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<PushNotificationDTO> result = timelineCache.getOrLoad(userId, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads).hasValue(0);
+        assertThat(result).extracting(PushNotificationDTO::getNotificationId, PushNotificationDTO::isRead)
+                .containsExactly(tuple(2L, false), tuple(1L, true));
+        assertThat(result.get(0).getTitle()).isEqualTo("주문 완료");
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB 조회 결과를 반환하고 캐시에 적재한다")
+    void getOrLoad_MissLoadsAndPopulates() {
+        // given: 조회(nil) → 적재 시작(1) → 적재 완료(1)
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(null, 1L, 1L);
+        List<PushNotificationDTO> fromDatabase = List.of(notification(1L));
+
+        // when
+        List<PushNotificationDTO> result = timelineCache.getOrLoad(userId, () -> fromDatabase);
+
+        // then
+        assertThat(result).isSameAs(fromDatabase);
+        verify(stringRedisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 적재 중이면 DB 조회 결과만 반환하고 캐시를 쓰지 않는다")
+    void getOrLoad_MissWhileAnotherLoadInProgress() {
+        // given: 조회(nil) → 적재 시작 실패(0)
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(null, 0L);
+
+        // when
+        List<PushNotificationDTO> result = timelineCache.getOrLoad(userId, () -> List.of(notification(1L)));
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 DB 조회 결과를 반환한다")
+    void getOrLoad_RedisUnavailable() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        List<PushNotificationDTO> result = timelineCache.getOrLoad(userId, () -> List.of(notification(1L)));
+
+        // then
+        assertThat(result).extracting(PushNotificationDTO::getNotificationId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("발송 경로의 캐시 추가가 실패해도 예외를 전파하지 않는다")
+    void append_RedisUnavailable() {
+        // given
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        timelineCache.append(List.of(new NotificationMessage(userId, notification(1L))));
+
+        // then
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,48 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushCircuitBreakerTest {
+
+    @Test
+    @DisplayName("연속 실패가 기준에 이르면 차단하고, 성공하면 실패 수를 초기화한다")
+    void opensAfterConsecutiveFailures() {
+        // given
+        PushCircuitBreaker circuitBreaker = new PushCircuitBreaker(new SimpleMeterRegistry(), 2, 60_000);
+
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        boolean allowedBeforeOpen = circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(allowedBeforeOpen).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(PushCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번만 시도하고, 결과에 따라 복구하거나 다시 차단한다")
+    void halfOpenAllowsSingleTrial() {
+        // given
+        PushCircuitBreaker circuitBreaker = new PushCircuitBreaker(new SimpleMeterRegistry(), 1, 0);
+        circuitBreaker.recordFailure();
+
+        // when & then
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(PushCircuitBreaker.State.OPEN);
+
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        circuitBreaker.recordSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(PushCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+}
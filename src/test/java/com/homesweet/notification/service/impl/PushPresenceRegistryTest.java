@@ -0,0 +1,70 @@
+package com.homesweet.notification.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PushPresenceRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PushPresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = new PushPresenceRegistry(stringRedisTemplate);
+        ReflectionTestUtils.setField(presenceRegistry, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("연결 키가 없는 사용자를 한 번에 조회한다 (중복 수신자는 한 번만 조회)")
+    void offline_ByMissingKey() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("notification:presence:1", "notification:presence:2", "notification:presence:3")))
+                .willReturn(Arrays.asList("gateway-1", null, null));
+
+        // when & then
+        assertThat(presenceRegistry.offline(List.of(1L, 2L, 3L, 1L))).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 Redis를 조회하지 않고 모두 발행 대상으로 둔다")
+    void offline_Disabled() {
+        // given
+        ReflectionTestUtils.setField(presenceRegistry, "enabled", false);
+
+        // when & then
+        assertThat(presenceRegistry.offline(List.of(1L, 2L))).isEmpty();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 모두 발행 대상으로 둔다")
+    void offline_RedisUnavailable() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(presenceRegistry.offline(List.of(1L, 2L))).isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package com.homesweet.notification.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PushSpilloverQueueTest {
+
+    @TempDir
+    private Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PushSpilloverQueue> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(PushSpilloverQueue::close);
+    }
+
+    private PushSpilloverQueue open(int segmentBytes, long maxBytes) {
+        PushSpilloverQueue queue = new PushSpilloverQueue(meterRegistry, true, directory.toString(), segmentBytes, maxBytes);
+        opened.add(queue);
+        return queue;
+    }
+
+    private static PushSpilloverQueue.Frame frame(int index) {
+        return new PushSpilloverQueue.Frame(("notification:push:" + index % 4).getBytes(StandardCharsets.UTF_8),
+                ("message-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> payloads(PushSpilloverQueue.Batch batch) {
+        return batch.frames().stream().map(frame -> new String(frame.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("추가한 순서대로 꺼내고, commit 하기 전까지는 같은 메시지를 다시 꺼낸다")
+    void peekAndCommit_InOrder() {
+        // given
+        PushSpilloverQueue queue = open(1 << 16, 1 << 20);
+        queue.append(IntStream.range(0, 5).mapToObj(PushSpilloverQueueTest::frame).toList());
+
+        // when
+        PushSpilloverQueue.Batch first = queue.peek(3);
+        PushSpilloverQueue.Batch again = queue.peek(3);
+        queue.commit(first);
+        PushSpilloverQueue.Batch rest = queue.peek(10);
+
+        // then
+        assertThat(payloads(first)).containsExactly("message-0", "message-1", "message-2");
+        assertThat(payloads(again)).isEqualTo(payloads(first));
+        assertThat(payloads(rest)).containsExactly("message-3", "message-4");
+        assertThat(new String(rest.frames().get(0).destination(), StandardCharsets.UTF_8)).isEqualTo("notification:push:3");
+        assertThat(queue.pendingMessages()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.push.spillover.lag").gauge().value()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("재시작하면 다시 발행하지 않은 메시지부터 이어서 꺼낸다")
+    void reopen_ResumesFromCommittedOffset() {
+        // given
+        PushSpilloverQueue queue = open(1 << 16, 1 << 20);
+        queue.append(IntStream.range(0, 4).mapToObj(PushSpilloverQueueTest::frame).toList());
+        queue.commit(queue.peek(1));
+        queue.close();
+
+        // when
+        PushSpilloverQueue reopened = open(1 << 16, 1 << 20);
+        reopened.append(List.of(frame(4)));
+
+        // then
+        assertThat(reopened.pendingMessages()).isEqualTo(4);
+        assertThat(payloads(reopened.peek(10)))
+                .containsExactly("message-1", "message-2", "message-3", "message-4");
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 새 세그먼트에 쓰고, 다 발행한 세그먼트는 삭제한다")
+    void segments_RollAndRelease() throws Exception {
+        // given: 레코드 44바이트, 세그먼트당 3개
+        PushSpilloverQueue queue = open(160, 1 << 20);
+        queue.append(IntStream.range(0, 7).mapToObj(PushSpilloverQueueTest::frame).toList());
+        assertThat(segmentFiles()).isEqualTo(3);
+
+        // when
+        List<String> replayed = new ArrayList<>();
+        while (queue.hasPending()) {
+            PushSpilloverQueue.Batch batch = queue.peek(100);
+            replayed.addAll(payloads(batch));
+            queue.commit(batch);
+        }
+
+        // then
+        assertThat(replayed).containsExactlyElementsOf(
+                IntStream.range(0, 7).mapToObj(index -> "message-" + index).toList());
+        assertThat(segmentFiles()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.push.spillover.bytes").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("notification.push.spillover.replayed").count()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 메시지는 버리고 기록한다")
+    void append_DropsOverCapacity() {
+        // given
+        PushSpilloverQueue queue = open(1 << 16, 120);
+
+        // when
+        boolean appended = queue.append(IntStream.range(0, 5).mapToObj(PushSpilloverQueueTest::frame).toList());
+
+        // then
+        assertThat(appended).isFalse();
+        assertThat(queue.pendingMessages()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.push.spillover.dropped").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용 중인 디렉터리는 사용하지 않는다")
+    void open_DirectoryInUse() {
+        // given
+        open(1 << 16, 1 << 20);
+
+        // when
+        PushSpilloverQueue second = open(1 << 16, 1 << 20);
+
+        // then
+        assertThat(second.append(List.of(frame(0)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용하도록 설정했는데 디렉터리를 지정하지 않으면 생성에 실패한다")
+    void create_WithoutDirectory() {
+        assertThatThrownBy(() -> new PushSpilloverQueue(meterRegistry, true, "", 1 << 16, 1 << 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
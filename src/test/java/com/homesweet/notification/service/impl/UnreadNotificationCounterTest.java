@@ -0,0 +1,216 @@
+package com.homesweet.notification.service.impl;
+
+import com.homesweet.notification.repository.NotificationReadWatermarkRepository;
+import com.homesweet.notification.repository.UserNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private UserNotificationRepository userNotificationRepository;
+
+    @Mock
+    private NotificationReadWatermarkRepository readWatermarkRepository;
+
+    @Mock
+    private BroadcastNotificationService broadcastNotificationService;
+
+    @Mock
+    private InboxVersion inboxVersion;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnreadNotificationCounter counter;
+
+    private final Long userId = 1L;
+    private final String key = "notification:unread:1";
+    private final String broadcastKey = "notification:unread-broadcast:1";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new UnreadNotificationCounter(stringRedisTemplate, userNotificationRepository,
+                readWatermarkRepository, broadcastNotificationService, inboxVersion, meterRegistry);
+        ReflectionTestUtils.setField(counter, "ttlHours", 24L);
+        ReflectionTestUtils.setField(counter, "broadcastTtlSeconds", 300L);
+        ReflectionTestUtils.setField(counter, "reconcileBatchSize", 500);
+        ReflectionTestUtils.setField(counter, "reconcileMaxBatches", 20);
+        ReflectionTestUtils.setField(counter, "reconcileSampleRate", 1.0);
+    }
+
+    @Test
+    @DisplayName("카운터와 현재 공용 버전의 전체 발송 알림 수가 있으면 DB를 조회하지 않는다")
+    void get_Cached() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.getAndExpire(key, Duration.ofHours(24))).willReturn("3");
+        given(inboxVersion.broadcastVersion()).willReturn("7");
+        given(valueOperations.get(broadcastKey)).willReturn("7:2");
+
+        // when & then
+        assertThat(counter.get(userId)).isEqualTo(5L);
+        verifyNoInteractions(userNotificationRepository, readWatermarkRepository, broadcastNotificationService);
+    }
+
+    @Test
+    @DisplayName("새 전체 발송 알림으로 공용 버전이 바뀌면 읽지 않은 전체 발송 알림 수를 다시 계산한다")
+    void get_BroadcastVersionChanged() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.getAndExpire(key, Duration.ofHours(24))).willReturn("3");
+        given(inboxVersion.broadcastVersion()).willReturn("8");
+        given(valueOperations.get(broadcastKey)).willReturn("7:2");
+        given(broadcastNotificationService.countUnread(userId, null)).willReturn(4L);
+
+        // when & then
+        assertThat(counter.get(userId)).isEqualTo(7L);
+        verify(valueOperations).set(broadcastKey, "8:4", Duration.ofSeconds(300));
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 읽음 기준 시각 이후의 읽지 않은 알림 수를 DB에서 계산해 적재하고 점검 대상으로 기록한다")
+    void get_LoadsFromDatabase() {
+        // given
+        LocalDateTime readUntil = LocalDateTime.now().minusDays(1);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(readWatermarkRepository.findReadUntilByUserId(userId)).willReturn(Optional.of(readUntil));
+        given(userNotificationRepository.countUnreadByUserId(userId, readUntil)).willReturn(5L);
+        given(inboxVersion.broadcastVersion()).willReturn("7");
+        given(broadcastNotificationService.countUnread(userId, readUntil)).willReturn(1L);
+
+        // when & then
+        assertThat(counter.get(userId)).isEqualTo(6L);
+        verify(valueOperations).set(broadcastKey, "7:1", Duration.ofSeconds(300));
+        verify(valueOperations).setIfAbsent(key, "5", Duration.ofHours(24));
+        verify(setOperations).add("notification:unread-reconcile", "1");
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 DB 값을 반환한다")
+    void get_RedisUnavailable() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+        given(userNotificationRepository.countUnreadByUserId(userId, null)).willReturn(2L);
+
+        // when & then
+        assertThat(counter.get(userId)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 증가를 바로 반영하고, 감소량이 0이면 Redis를 호출하지 않는다")
+    void adjust_WithoutTransaction() {
+        // when
+        counter.incrementAfterCommit(List.of(1L, 2L, 1L));
+        counter.decrementAfterCommit(userId, 0);
+
+        // then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("스트리밍 적재 기준 이상의 수신자는 증가시키지 않고 카운터를 지운다")
+    void increment_AboveBulkLoadThreshold() {
+        // given
+        ReflectionTestUtils.setField(counter, "bulkLoadThreshold", 2);
+
+        // when
+        counter.incrementAfterCommit(List.of(1L, 2L, 1L));
+
+        // then
+        verify(stringRedisTemplate).unlink(argThat((Collection<String> keys) -> keys.size() == 2
+                && keys.containsAll(List.of("notification:unread:1", "notification:unread:2"))));
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("점검 대상이 한 묶음보다 많으면 빌 때까지 이어서 점검한다")
+    void reconcile_DrainsBacklog() {
+        // given
+        ReflectionTestUtils.setField(counter, "reconcileBatchSize", 2);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop("notification:unread-reconcile", 2))
+                .willReturn(List.of("1", "2"), List.of("3"));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        counter.reconcile();
+
+        // then
+        verify(setOperations, times(2)).pop("notification:unread-reconcile", 2);
+        verify(valueOperations, times(3)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("점검 대상 카운터가 DB 값과 다르면 DB 값으로 복구하고 불일치를 기록한다")
+    void reconcile_RepairsDrift() {
+        // given
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop("notification:unread-reconcile", 500)).willReturn(List.of("1"));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn("4");
+        given(userNotificationRepository.countUnreadByUserId(userId, null)).willReturn(2L);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), eq("2"), anyString()))
+                .willReturn(1L);
+
+        // when
+        counter.reconcile();
+
+        // then
+        assertThat(meterRegistry.counter("notification.unread.drift").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("점검 대상 카운터가 DB 값과 같으면 변경하지 않는다")
+    void reconcile_NoDrift() {
+        // given
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop("notification:unread-reconcile", 500)).willReturn(List.of("1"));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn("2");
+        given(userNotificationRepository.countUnreadByUserId(userId, null)).willReturn(2L);
+
+        // when
+        counter.reconcile();
+
+        // then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(meterRegistry.counter("notification.unread.drift").count()).isZero();
+    }
+}
@@ -0,0 +1,15 @@
+-- ====================================
+-- 애플리케이션 ID 할당용 시퀀스 테이블 (H2 테스트 호환용)
+-- ====================================
+
+-- user_notification_id를 애플리케이션에서 블록 단위(hi/lo)로 할당하기 위한 시퀀스
+CREATE TABLE IF NOT EXISTS `id_sequence` (
+    `sequence_name` VARCHAR(64) NOT NULL,
+    `next_val` BIGINT NOT NULL,
+    PRIMARY KEY (`sequence_name`)
+);
+
+-- 기존 데이터 이후 값부터 할당
+INSERT IGNORE INTO `id_sequence` (`sequence_name`, `next_val`)
+SELECT 'user_notification', COALESCE(MAX(`user_notification_id`), 0) + 1
+FROM `user_notification`;
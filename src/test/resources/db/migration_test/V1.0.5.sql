@@ -0,0 +1,30 @@
+-- ====================================
+-- 전체 발송 알림 저장소 (H2 테스트 호환용)
+-- ====================================
+
+-- 시스템/프로모션 전체 발송 알림은 사용자별 행 대신 한 행만 저장하고, 조회 시 받은 알림함에 합칩니다.
+-- broadcast_notification_id는 user_notification_id와 같은 시퀀스(id_sequence)에서 할당하여 ID가 겹치지 않습니다.
+CREATE TABLE IF NOT EXISTS `broadcast_notification` (
+    `broadcast_notification_id` BIGINT NOT NULL,
+    `notification_template_id` BIGINT NOT NULL,
+    `context_data` JSON NOT NULL,
+    `audience` VARCHAR(20) NOT NULL,
+    `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (`broadcast_notification_id`),
+    FOREIGN KEY (`notification_template_id`) REFERENCES `notification_template` (`notification_template_id`)
+);
+
+CREATE INDEX `idx_broadcast_notification_audience_created_at`
+    ON `broadcast_notification` (`audience`, `created_at`);
+
+-- 사용자가 읽음/삭제 처리한 전체 발송 알림만 기록 (희소 테이블)
+CREATE TABLE IF NOT EXISTS `broadcast_notification_state` (
+    `user_id` BIGINT NOT NULL,
+    `broadcast_notification_id` BIGINT NOT NULL,
+    `is_read` BOOLEAN NOT NULL DEFAULT FALSE,
+    `is_deleted` BOOLEAN NOT NULL DEFAULT FALSE,
+    `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (`user_id`, `broadcast_notification_id`),
+    FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE,
+    FOREIGN KEY (`broadcast_notification_id`) REFERENCES `broadcast_notification` (`broadcast_notification_id`) ON DELETE CASCADE
+);
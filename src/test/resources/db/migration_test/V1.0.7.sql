@@ -0,0 +1,9 @@
+-- ====================================
+-- 알림함 조회 인덱스 (H2 테스트 호환용)
+-- ====================================
+
+-- 사용자별 알림함 조회(최신순, 커서 기반 페이지)를 인덱스 순서로 읽기 위한 복합 인덱스
+-- WHERE user_id = ? AND is_deleted = false AND (created_at, user_notification_id) < (?, ?)
+-- ORDER BY created_at DESC, user_notification_id DESC 를 정렬 없이 인덱스 범위 탐색으로 처리합니다.
+CREATE INDEX `idx_user_notification_user_deleted_created`
+    ON `user_notification` (`user_id`, `is_deleted`, `created_at`, `user_notification_id`);